@@ -0,0 +1,47 @@
+package com.github.jonnu.advent.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import com.github.jonnu.advent.common.BufferedResourceReader;
+import com.github.jonnu.advent.common.CachingResourceReader;
+import com.github.jonnu.advent.common.Trace;
+import com.github.jonnu.advent.inject.AdventModule;
+import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.runner.ClassPathPuzzleLocator;
+import com.github.jonnu.advent.runner.PuzzleReference;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+/**
+ * Shared wiring for the puzzle benchmarks: resolves a {@code year/day} parameter to a freshly injected puzzle. Inputs
+ * are read once and then served from memory, so the measurements leave out the classloader and decoding.
+ */
+final class BenchmarkPuzzles {
+
+    private static final long INPUT_CACHE_SIZE = 256 * 1_024 * 1_024;
+    private static final Injector INJECTOR = Guice.createInjector(new AdventModule(
+            new CachingResourceReader(new BufferedResourceReader(), INPUT_CACHE_SIZE),
+            Trace.QUIET));
+
+    private BenchmarkPuzzles() {
+    }
+
+    static Class<? extends Puzzle> resolve(final String puzzle) {
+        List<PuzzleReference> references = new ClassPathPuzzleLocator().locate(List.of(puzzle));
+        if (references.size() != 1) {
+            throw new IllegalArgumentException("Unknown puzzle: " + puzzle);
+        }
+        return references.get(0).type();
+    }
+
+    static <T extends Puzzle> T create(final Class<T> type) {
+        return INJECTOR.getInstance(type);
+    }
+
+    // puzzles print their answers (and sometimes debug output); keep console i/o out of the measurement.
+    static void silenceConsole() {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+}
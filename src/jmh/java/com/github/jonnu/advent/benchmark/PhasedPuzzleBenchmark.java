@@ -0,0 +1,59 @@
+package com.github.jonnu.advent.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
+import com.github.jonnu.advent.puzzle.Puzzle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Parsing and each part of every {@link PhasedPuzzle}, measured separately.
+ * The parts run against a model parsed once during setup, so they measure the algorithm alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PhasedPuzzleBenchmark {
+
+    @Param({
+            "2021/15", "2022/12", "2023/11", "2025/2", "2025/3", "2025/5"
+    })
+    private String puzzle;
+
+    private PhasedPuzzle<Object, ?, ?> instance;
+    private Object model;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void parseOnce() {
+        BenchmarkPuzzles.silenceConsole();
+        Puzzle created = BenchmarkPuzzles.create(BenchmarkPuzzles.resolve(puzzle));
+        if (!(created instanceof PhasedPuzzle<?, ?, ?>)) {
+            throw new IllegalArgumentException("Puzzle " + puzzle + " is not a PhasedPuzzle");
+        }
+        instance = (PhasedPuzzle<Object, ?, ?>) created;
+        model = instance.parse();
+    }
+
+    @Benchmark
+    public Object parse() {
+        return instance.parse();
+    }
+
+    @Benchmark
+    public Object partOne() {
+        return instance.partOne(model);
+    }
+
+    @Benchmark
+    public Object partTwo() {
+        return instance.partTwo(model);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.jonnu.advent.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.github.jonnu.advent.puzzle.Puzzle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * End-to-end {@link Puzzle#solve()} of every puzzle, including reading and parsing its input.
+ * A fresh instance is injected for every invocation so that state cached by one solve cannot leak into the next.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PuzzleBenchmark {
+
+    @Param({
+            "2021/1", "2021/2", "2021/3", "2021/4", "2021/5", "2021/6", "2021/7", "2021/8", "2021/9", "2021/10", "2021/11", "2021/12", "2021/13", "2021/14", "2021/15", "2021/16",
+            "2022/1", "2022/2", "2022/3", "2022/4", "2022/5", "2022/6", "2022/7", "2022/8", "2022/9", "2022/10", "2022/11", "2022/12", "2022/13", "2022/14", "2022/15", "2022/16", "2022/18", "2022/20", "2022/25",
+            "2023/1", "2023/2", "2023/3", "2023/4", "2023/5", "2023/6", "2023/7", "2023/8", "2023/9", "2023/10", "2023/11", "2023/14", "2023/15", "2023/16", "2023/18", "2023/20",
+            "2024/1", "2024/2", "2024/3", "2024/4",
+            "2025/1", "2025/2", "2025/3", "2025/4", "2025/5"
+    })
+    private String puzzle;
+
+    private Class<? extends Puzzle> type;
+    private Puzzle instance;
+
+    @Setup(Level.Trial)
+    public void resolve() {
+        BenchmarkPuzzles.silenceConsole();
+        type = BenchmarkPuzzles.resolve(puzzle);
+    }
+
+    @Setup(Level.Invocation)
+    public void inject() {
+        instance = BenchmarkPuzzles.create(type);
+    }
+
+    @Benchmark
+    public void solve() {
+        instance.solve();
+    }
+}
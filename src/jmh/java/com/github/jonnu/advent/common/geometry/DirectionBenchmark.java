@@ -0,0 +1,44 @@
+package com.github.jonnu.advent.common.geometry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Direction parsing and the enumeration helpers. {@code fromString} is parameterised across an alias ({@code U}),
+ * a plain glyph resolved first ({@code N}) and last ({@code NW}), so the cost of each lookup path is visible.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DirectionBenchmark {
+
+    @Param({"U", "N", "NW"})
+    private String glyph;
+
+    @Benchmark
+    public Direction fromString() {
+        return Direction.fromString(glyph);
+    }
+
+    @Benchmark
+    public Direction fromCharacter() {
+        return Direction.fromString(glyph.charAt(0));
+    }
+
+    @Benchmark
+    public Object cardinal() {
+        return Direction.cardinal();
+    }
+
+    @Benchmark
+    public Object all() {
+        return Direction.all();
+    }
+}
@@ -0,0 +1,63 @@
+package com.github.jonnu.advent.common.geometry;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Neighbour lookups over 1,024 points laid out in rows of {@code side}, as grid puzzles do in their inner loops.
+ * Results are normalised per point, so {@code gc.alloc.rate.norm} is the bytes allocated by a single call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PointBenchmark {
+
+    private static final int POINTS = 1_024;
+
+    @Param({"1", "32", "1024"})
+    private int side;
+
+    private Point[] points;
+
+    @Setup
+    public void grid() {
+        points = new Point[POINTS];
+        for (int i = 0; i < POINTS; i++) {
+            points[i] = new Point(i % side, i / side);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void neighbours(final Blackhole blackhole) {
+        for (Point point : points) {
+            blackhole.consume(point.neighbours());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void cardinalNeighbours(final Blackhole blackhole) {
+        for (Point point : points) {
+            blackhole.consume(point.cardinalNeighbours());
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(POINTS)
+    public void move(final Blackhole blackhole) {
+        for (Point point : points) {
+            blackhole.consume(point.move(Direction.SOUTHEAST));
+        }
+    }
+}
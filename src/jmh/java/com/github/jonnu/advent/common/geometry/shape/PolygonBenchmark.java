@@ -0,0 +1,51 @@
+package com.github.jonnu.advent.common.geometry.shape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.github.jonnu.advent.common.geometry.Point;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shoelace area and perimeter of a regular polygon with a varying number of vertices.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PolygonBenchmark {
+
+    private static final int RADIUS = 1_000_000;
+
+    @Param({"4", "64", "4096"})
+    private int vertices;
+
+    private Polygon polygon;
+
+    @Setup
+    public void polygon() {
+        List<Point> points = new ArrayList<>(vertices);
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            points.add(new Point((int) (RADIUS * Math.cos(angle)), (int) (RADIUS * Math.sin(angle))));
+        }
+        polygon = new Polygon(points);
+    }
+
+    @Benchmark
+    public double area() {
+        return polygon.area();
+    }
+
+    @Benchmark
+    public double perimeter() {
+        return polygon.perimeter();
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.jonnu.advent.common.math;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Least common multiple of a pair and of a set of cycle lengths, the shape of input {@code y2023.Puzzle8} and
+ * {@code y2023.Puzzle20} feed it. Larger sets overflow {@code long}, which does not change the work done.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArithmeticBenchmark {
+
+    private static final long SEED = 2023L;
+
+    @Param({"2", "6", "12"})
+    private int size;
+
+    private long[] input;
+
+    @Setup
+    public void input() {
+        Random random = new Random(SEED);
+        input = new long[size];
+        for (int i = 0; i < size; i++) {
+            input[i] = 3_000 + random.nextInt(2_000);
+        }
+    }
+
+    @Benchmark
+    public long lcmPair() {
+        return Arithmetic.lcm(input[0], input[input.length - 1]);
+    }
+
+    @Benchmark
+    public long lcmSet() {
+        return Arithmetic.lcm(input);
+    }
+}
@@ -1,17 +1,37 @@
 package com.github.jonnu.advent.common;
 
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.util.Optional;
+import java.nio.ByteBuffer;
+
+import lombok.SneakyThrows;
 
 public class BufferedResourceReader implements ResourceReader {
 
     @Override
     public BufferedReader read(final String resource) {
+        return new BufferedReader(new InputStreamReader(open(resource)));
+    }
+
+    @Override
+    @SneakyThrows
+    public ByteBuffer bytes(final String resource) {
+        try (InputStream stream = open(resource)) {
+            return ByteBuffer.wrap(stream.readAllBytes());
+        }
+    }
+
+    // the resource itself if it is there, otherwise its first compressed copy, inflated as it is read.
+    @SneakyThrows
+    private static InputStream open(final String resource) {
         final ClassLoader classloader = Thread.currentThread().getContextClassLoader();
-        return Optional.ofNullable(classloader.getResourceAsStream(resource))
-                .map(InputStreamReader::new)
-                .map(BufferedReader::new)
-                .orElseThrow(() -> new RuntimeException("Unable to stream " + resource + "; Did you typo?"));
+        for (Compression compression : Compression.values()) {
+            InputStream stream = classloader.getResourceAsStream(resource + compression.getExtension());
+            if (stream != null) {
+                return compression.decompress(stream);
+            }
+        }
+        throw new RuntimeException("Unable to stream " + resource + "; Did you typo?");
     }
 }
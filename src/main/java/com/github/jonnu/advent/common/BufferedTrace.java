@@ -0,0 +1,27 @@
+package com.github.jonnu.advent.common;
+
+/**
+ * Collects trace output in memory, per thread, so that it stays out of timed code and concurrently running puzzles do
+ * not interleave. Whoever runs the puzzle {@link #drain() drains} the buffer once it is done measuring.
+ */
+public class BufferedTrace implements Trace {
+
+    private final ThreadLocal<StringBuilder> buffer = ThreadLocal.withInitial(StringBuilder::new);
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void print(final String text) {
+        buffer.get().append(text);
+    }
+
+    public String drain() {
+        StringBuilder builder = buffer.get();
+        String text = builder.toString();
+        builder.setLength(0);
+        return text;
+    }
+}
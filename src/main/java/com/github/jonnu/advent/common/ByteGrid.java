@@ -0,0 +1,98 @@
+package com.github.jonnu.advent.common;
+
+import java.nio.ByteBuffer;
+
+import com.github.jonnu.advent.common.geometry.Point;
+
+/**
+ * A read-only grid view over the bytes of an input made of equally long lines, addressing {@code (x, y)} as
+ * {@code y * stride + x} in place, where the stride is the width plus the line ending ({@code \n} or {@code \r\n}):
+ * nothing is copied, so over a mapped input not even the heap is touched. The width is that of the first line; trailing
+ * line endings are ignored, and an input whose lines are not all that long is rejected rather than misaddressed.
+ */
+public final class ByteGrid {
+
+    private final ByteBuffer bytes;
+    private final int offset;
+    private final int width;
+    private final int height;
+    private final int stride;
+
+    private ByteGrid(final ByteBuffer bytes, final int offset, final int width, final int height, final int stride) {
+        this.bytes = bytes;
+        this.offset = offset;
+        this.width = width;
+        this.height = height;
+        this.stride = stride;
+    }
+
+    public static ByteGrid of(final ByteBuffer bytes) {
+        int offset = bytes.position();
+        int end = offset;
+        while (end < bytes.limit() && bytes.get(end) != '\n') {
+            end++;
+        }
+
+        int separator = end < bytes.limit() ? 1 : 0;
+        int width = end - offset;
+        if (width > 0 && bytes.get(end - 1) == '\r') {
+            width--;
+            separator++;
+        }
+        if (width == 0) {
+            throw new IllegalArgumentException("Grid has an empty first line");
+        }
+
+        int last = bytes.limit();
+        while (last > offset && (bytes.get(last - 1) == '\n' || bytes.get(last - 1) == '\r')) {
+            last--;
+        }
+        // every line but the last is followed by a line ending.
+        int stride = width + separator;
+        int length = last - offset;
+        if ((length + separator) % stride != 0) {
+            throw new IllegalArgumentException("Grid of " + length + " bytes is not made of lines " + width + " wide");
+        }
+        int height = (length + separator) / stride;
+        for (int y = 1; y < height; y++) {
+            if (bytes.get(offset + y * stride - 1) != '\n') {
+                throw new IllegalArgumentException("Line " + (y - 1) + " of the grid is not " + width + " wide");
+            }
+        }
+        return new ByteGrid(bytes, offset, width, height, stride);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    public boolean contains(final int x, final int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    public boolean contains(final Point point) {
+        return contains(point.getX(), point.getY());
+    }
+
+    public byte get(final int x, final int y) {
+        if (!contains(x, y)) {
+            throw new IndexOutOfBoundsException("(" + x + "," + y + ") is outside a " + width + "x" + height + " grid");
+        }
+        return bytes.get(offset + y * stride + x);
+    }
+
+    public byte get(final Point point) {
+        return get(point.getX(), point.getY());
+    }
+
+    /**
+     * The byte at {@code (x, y)}, or {@code outside} if that is off the grid; saves a bounds check at every neighbour.
+     */
+    public byte getOrDefault(final int x, final int y, final byte outside) {
+        return contains(x, y) ? bytes.get(offset + y * stride + x) : outside;
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.jonnu.advent.common;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads numbers and tokens straight out of an input's bytes, without decoding it or creating a {@code String} per line
+ * (or per number). Numbers are found by skipping whatever precedes them on the current line, so {@code x=-2, y=15}
+ * and {@code 0,9 -> 5,9} need no pattern; a {@code -} directly before a digit is taken as a sign.
+ */
+public final class ByteScanner {
+
+    private final ByteBuffer buffer;
+    private final int limit;
+    private int position;
+
+    public ByteScanner(final ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    public ByteScanner(final byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Skips whitespace, blank lines included, and tells whether anything is left after it.
+     */
+    public boolean hasNext() {
+        while (position < limit && isWhitespace(buffer.get(position))) {
+            position++;
+        }
+        return position < limit;
+    }
+
+    /**
+     * Skips spaces on the current line and tells whether it has ended, either at a newline or the end of the input.
+     */
+    public boolean isEndOfLine() {
+        while (position < limit && isSpace(buffer.get(position))) {
+            position++;
+        }
+        return position == limit || buffer.get(position) == '\n';
+    }
+
+    /**
+     * Moves to the start of the next line, skipping anything left on this one.
+     */
+    public void nextLine() {
+        skipUntil((byte) '\n');
+    }
+
+    /**
+     * Moves past the next occurrence of {@code delimiter}, or to the end of the input if there is none.
+     *
+     * @return whether the delimiter was found.
+     */
+    public boolean skipUntil(final byte delimiter) {
+        while (position < limit) {
+            if (buffer.get(position++) == delimiter) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int nextInt() {
+        return Math.toIntExact(nextLong());
+    }
+
+    /**
+     * The next number on the current line, skipping anything before it.
+     */
+    public long nextLong() {
+        while (position < limit && !isNumberStart(position)) {
+            if (buffer.get(position) == '\n') {
+                break;
+            }
+            position++;
+        }
+        if (position == limit || buffer.get(position) == '\n') {
+            throw new NoSuchElementException("No number left on the line ending at byte " + position);
+        }
+
+        boolean negative = buffer.get(position) == '-';
+        if (negative) {
+            position++;
+        }
+        long value = 0;
+        while (position < limit && isDigit(buffer.get(position))) {
+            value = value * 10 + (buffer.get(position++) - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Copies the next run of non-whitespace bytes on the current line into {@code token}, which can be reused from one
+     * call to the next.
+     *
+     * @return the length of the token; 0 if the line has ended.
+     */
+    public int nextToken(final byte[] token) {
+        if (isEndOfLine()) {
+            return 0;
+        }
+        int length = 0;
+        while (position < limit && !isWhitespace(buffer.get(position))) {
+            if (length == token.length) {
+                throw new IllegalArgumentException("Token longer than " + token.length + " bytes at byte " + position);
+            }
+            token[length++] = buffer.get(position++);
+        }
+        return length;
+    }
+
+    /**
+     * Decodes a token for the rare case where a {@code String} really is needed, such as a map key.
+     */
+    public static String toString(final byte[] token, final int length) {
+        return new String(token, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean isNumberStart(final int index) {
+        byte current = buffer.get(index);
+        return isDigit(current) || (current == '-' && index + 1 < limit && isDigit(buffer.get(index + 1)));
+    }
+
+    private static boolean isDigit(final byte b) {
+        return b >= '0' && b <= '9';
+    }
+
+    private static boolean isSpace(final byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return isSpace(b) || b == '\n';
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jonnu.advent.common;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Loads each input once from the reader it wraps and keeps its bytes in memory, so puzzles run over and over (warmup
+ * loops, benchmarks, stress runs) measure the solver rather than the classloader and the decoder. Every call gets a
+ * fresh reader over the same bytes. The bytes held are bounded, least recently used inputs being evicted first; an
+ * input larger than the whole bound is served but never held.
+ */
+public class CachingResourceReader implements ResourceReader {
+
+    private final ResourceReader delegate;
+    private final long maximumBytes;
+    // access ordered, so iteration starts at the least recently used input.
+    private final Map<String, byte[]> inputs = new LinkedHashMap<>(16, 0.75f, true);
+    private long heldBytes;
+
+    public CachingResourceReader(final ResourceReader delegate, final long maximumBytes) {
+        this.delegate = delegate;
+        this.maximumBytes = maximumBytes;
+    }
+
+    @Override
+    public BufferedReader read(final String resource) {
+        return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(load(resource)), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public ByteBuffer bytes(final String resource) {
+        return ByteBuffer.wrap(load(resource)).asReadOnlyBuffer();
+    }
+
+    // read outside the lock, so a slow first read of one input never holds up cached reads of the others.
+    private byte[] load(final String resource) {
+        synchronized (inputs) {
+            byte[] cached = inputs.get(resource);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        byte[] bytes = copy(delegate.bytes(resource));
+        if (bytes.length > maximumBytes) {
+            return bytes;
+        }
+
+        synchronized (inputs) {
+            byte[] previous = inputs.put(resource, bytes);
+            heldBytes += bytes.length - (previous == null ? 0 : previous.length);
+            Iterator<byte[]> eldest = inputs.values().iterator();
+            while (heldBytes > maximumBytes && eldest.hasNext()) {
+                byte[] evicted = eldest.next();
+                if (evicted == bytes) {
+                    continue;
+                }
+                heldBytes -= evicted.length;
+                eldest.remove();
+            }
+        }
+        return bytes;
+    }
+
+    // an exactly sized copy, so a mapping (or a larger backing array) is never what ends up being held on to.
+    private static byte[] copy(final ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+}
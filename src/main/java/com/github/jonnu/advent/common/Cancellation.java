@@ -0,0 +1,19 @@
+package com.github.jonnu.advent.common;
+
+import java.util.concurrent.CancellationException;
+
+/**
+ * Cooperative cancellation for long-running puzzle loops. The runner interrupts a puzzle's thread once it has used up
+ * its time budget; puzzles call {@link #checkpoint()} from their outer loops so that they stop promptly.
+ */
+public final class Cancellation {
+
+    private Cancellation() {
+    }
+
+    public static void checkpoint() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Puzzle cancelled");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.jonnu.advent.common;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipInputStream;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Compressed formats an input can be stored in, told apart by file extension, so very large generated inputs can be
+ * kept compressed and inflated as they are read rather than to disk first. A zip is read as its first entry.
+ */
+@Getter
+@AllArgsConstructor
+public enum Compression {
+
+    NONE(""),
+    GZIP(".gz"),
+    ZIP(".zip"),
+    // zlib-wrapped deflate, as written by DeflaterOutputStream.
+    ZLIB(".zz"),
+    // raw deflate, without any header.
+    DEFLATE(".deflate");
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final String extension;
+
+    public static Compression of(final String name) {
+        return Arrays.stream(values())
+                .filter(compression -> compression != NONE && name.endsWith(compression.getExtension()))
+                .findFirst()
+                .orElse(NONE);
+    }
+
+    /**
+     * Opens a file, inflating it as it is read if its name says it is compressed.
+     */
+    public static InputStream open(final Path path) throws IOException {
+        return of(path.getFileName().toString()).decompress(Files.newInputStream(path));
+    }
+
+    public InputStream decompress(final InputStream compressed) throws IOException {
+        return switch (this) {
+            case NONE -> compressed;
+            case GZIP -> new GZIPInputStream(compressed, BUFFER_SIZE);
+            case ZLIB -> new InflaterInputStream(compressed, new Inflater(), BUFFER_SIZE);
+            case DEFLATE -> new InflaterInputStream(compressed, new Inflater(true), BUFFER_SIZE);
+            case ZIP -> {
+                ZipInputStream zip = new ZipInputStream(new BufferedInputStream(compressed, BUFFER_SIZE));
+                if (zip.getNextEntry() == null) {
+                    zip.close();
+                    throw new IOException("Empty zip archive");
+                }
+                yield zip;
+            }
+        };
+    }
+}
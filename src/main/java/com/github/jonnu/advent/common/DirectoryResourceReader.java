@@ -0,0 +1,70 @@
+package com.github.jonnu.advent.common;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import lombok.SneakyThrows;
+
+/**
+ * Reads puzzle inputs from a directory on the filesystem rather than the classpath, so that they can be changed (or
+ * swapped for much larger generated inputs) without rebuilding. Resources resolve relative to the directory; where
+ * only a compressed copy exists ({@code puzzle1.txt.gz}, say) it is inflated as it is read, optionally on a thread of
+ * its own.
+ */
+public class DirectoryResourceReader implements ResourceReader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final boolean inflateAhead;
+
+    public DirectoryResourceReader(final Path directory) {
+        this(directory, false);
+    }
+
+    public DirectoryResourceReader(final Path directory, final boolean inflateAhead) {
+        this.directory = directory;
+        this.inflateAhead = inflateAhead;
+    }
+
+    @Override
+    public BufferedReader read(final String resource) {
+        return new BufferedReader(new InputStreamReader(open(resolve(resource)), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    @Override
+    @SneakyThrows
+    public ByteBuffer bytes(final String resource) {
+        Path path = resolve(resource);
+        if (Compression.of(path.getFileName().toString()) == Compression.NONE) {
+            return ByteBuffer.wrap(Files.readAllBytes(path));
+        }
+        try (InputStream stream = open(path)) {
+            return ByteBuffer.wrap(stream.readAllBytes());
+        }
+    }
+
+    @SneakyThrows
+    private InputStream open(final Path path) {
+        InputStream stream = Compression.open(path);
+        if (inflateAhead && Compression.of(path.getFileName().toString()) != Compression.NONE) {
+            return new ReadAheadInputStream(stream, path.getFileName().toString());
+        }
+        return stream;
+    }
+
+    // the input itself if it is there, otherwise its first compressed copy.
+    private Path resolve(final String resource) {
+        return Arrays.stream(Compression.values())
+                .map(compression -> directory.resolve(resource + compression.getExtension()))
+                .filter(Files::isReadable)
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unable to read " + directory.resolve(resource) + "; Did you typo?"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.jonnu.advent.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import lombok.SneakyThrows;
+
+/**
+ * Reads puzzle inputs from a directory on the filesystem by mapping them into memory, so that multi-gigabyte generated
+ * inputs are paged in by the OS rather than copied through a stream. {@link #bytes} hands out the mapping itself;
+ * {@link #read} decodes it as UTF-8 a window at a time, which also covers files beyond the 2GB a single mapping can
+ * hold. Inputs must not be truncated while mapped, or reading past the new end fails. An input present only in
+ * compressed form has nothing worth mapping, so it is streamed and inflated as a {@link DirectoryResourceReader} would.
+ */
+public class MappedResourceReader implements ResourceReader {
+
+    // size of each successively mapped window of a file read as a stream.
+    private static final long WINDOW = 1L << 30;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final DirectoryResourceReader compressed;
+
+    public MappedResourceReader(final Path directory) {
+        this(directory, false);
+    }
+
+    public MappedResourceReader(final Path directory, final boolean inflateAhead) {
+        this.directory = directory;
+        this.compressed = new DirectoryResourceReader(directory, inflateAhead);
+    }
+
+    @Override
+    @SneakyThrows
+    public BufferedReader read(final String resource) {
+        Path path = directory.resolve(resource);
+        if (!Files.isReadable(path)) {
+            return compressed.read(resource);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        return new BufferedReader(new InputStreamReader(new MappedInputStream(channel), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * The whole file as a read-only mapping; the channel is closed straight away, as the mapping outlives it.
+     * A compressed input is inflated onto the heap instead.
+     */
+    @Override
+    @SneakyThrows
+    public ByteBuffer bytes(final String resource) {
+        Path path = directory.resolve(resource);
+        if (!Files.isReadable(path)) {
+            return compressed.bytes(resource);
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Unable to map " + resource + " of " + channel.size() + " bytes in one buffer; read it as a stream");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Streams a file through read-only mappings of at most {@link #WINDOW} bytes, mapping the next one as the last
+     * runs out.
+     */
+    private static final class MappedInputStream extends InputStream {
+
+        private final FileChannel channel;
+        private final long size;
+        private long position;
+        private MappedByteBuffer window;
+
+        @SneakyThrows
+        private MappedInputStream(final FileChannel channel) {
+            this.channel = channel;
+            this.size = channel.size();
+        }
+
+        @Override
+        public int read() {
+            return advance() ? window.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!advance()) {
+                return -1;
+            }
+            int count = Math.min(length, window.remaining());
+            window.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            window = null;
+            channel.close();
+        }
+
+        // makes sure the current window has bytes left, mapping the next one if not; false at the end of the file.
+        @SneakyThrows
+        private boolean advance() {
+            if (window != null && window.hasRemaining()) {
+                return true;
+            }
+            if (position >= size) {
+                return false;
+            }
+            long length = Math.min(WINDOW, size - position);
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            position += length;
+            return true;
+        }
+    }
+}
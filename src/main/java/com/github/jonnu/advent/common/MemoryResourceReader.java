@@ -0,0 +1,37 @@
+package com.github.jonnu.advent.common;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Serves puzzle inputs already held in memory, such as those sent to the solver service, keyed by resource name.
+ */
+@AllArgsConstructor
+public class MemoryResourceReader implements ResourceReader {
+
+    private final Map<String, byte[]> inputs;
+
+    @Override
+    public BufferedReader read(final String resource) {
+        return Optional.ofNullable(inputs.get(resource))
+                .map(ByteArrayInputStream::new)
+                .map(stream -> new InputStreamReader(stream, StandardCharsets.UTF_8))
+                .map(BufferedReader::new)
+                .orElseThrow(() -> new RuntimeException("Unable to find " + resource + "; Did you typo?"));
+    }
+
+    @Override
+    public ByteBuffer bytes(final String resource) {
+        return Optional.ofNullable(inputs.get(resource))
+                .map(ByteBuffer::wrap)
+                .map(ByteBuffer::asReadOnlyBuffer)
+                .orElseThrow(() -> new RuntimeException("Unable to find " + resource + "; Did you typo?"));
+    }
+}
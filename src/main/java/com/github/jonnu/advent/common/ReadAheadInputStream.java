@@ -0,0 +1,108 @@
+package com.github.jonnu.advent.common;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reads another stream on a thread of its own, a few blocks ahead of the consumer, so that inflating a compressed
+ * input overlaps with parsing it instead of taking turns. Closing the stream stops the thread.
+ */
+final class ReadAheadInputStream extends InputStream {
+
+    private static final int BLOCK_SIZE = 1 << 20;
+    private static final int BLOCKS_AHEAD = 4;
+    private static final byte[] END = new byte[0];
+
+    private final BlockingQueue<byte[]> blocks = new ArrayBlockingQueue<>(BLOCKS_AHEAD);
+    private final Thread producer;
+    private volatile Throwable failure;
+
+    private byte[] block;
+    private int offset;
+    private boolean ended;
+
+    ReadAheadInputStream(final InputStream source, final String name) {
+        this.producer = Thread.ofPlatform()
+                .name("read-ahead-" + name)
+                .daemon()
+                .start(() -> fill(source));
+    }
+
+    @Override
+    public int read() throws IOException {
+        return advance() ? block[offset++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int off, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!advance()) {
+            return -1;
+        }
+        int count = Math.min(length, block.length - offset);
+        System.arraycopy(block, offset, bytes, off, count);
+        offset += count;
+        return count;
+    }
+
+    @Override
+    public void close() {
+        producer.interrupt();
+    }
+
+    // an empty block marks the end of the source, whether it ran out or failed; only a close, which interrupts this
+    // thread, leaves it out, as nobody is reading any more.
+    private void fill(final InputStream source) {
+        try (source) {
+            byte[] next = source.readNBytes(BLOCK_SIZE);
+            while (next.length > 0) {
+                blocks.put(next);
+                next = source.readNBytes(BLOCK_SIZE);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            if (!Thread.currentThread().isInterrupted()) {
+                try {
+                    blocks.put(END);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    private boolean advance() throws IOException {
+        if (block != null && offset < block.length) {
+            return true;
+        }
+        if (ended) {
+            return false;
+        }
+        try {
+            block = blocks.take();
+            offset = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted waiting for input");
+        }
+        if (block.length == 0) {
+            ended = true;
+            if (failure instanceof IOException e) {
+                throw e;
+            }
+            if (failure != null) {
+                throw new IOException("Unable to read ahead on " + producer.getName(), failure);
+            }
+            return false;
+        }
+        return true;
+    }
+}
@@ -1,7 +1,37 @@
 package com.github.jonnu.advent.common;
 
 import java.io.BufferedReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+import lombok.SneakyThrows;
 
 public interface ResourceReader {
     BufferedReader read(String resource);
+
+    /**
+     * The raw bytes of a resource, here re-encoded from its lines. Readers that already hold the bytes, or can map
+     * them, override this to hand them out without decoding and re-encoding every line.
+     */
+    @SneakyThrows
+    default ByteBuffer bytes(final String resource) {
+        try (BufferedReader reader = read(resource)) {
+            return StandardCharsets.UTF_8.encode(reader.lines().collect(Collectors.joining("\n", "", "\n")));
+        }
+    }
+
+    /**
+     * A scanner over the resource's bytes, for parsing numbers and tokens without a {@code String} per line.
+     */
+    default ByteScanner scan(final String resource) {
+        return new ByteScanner(bytes(resource));
+    }
+
+    /**
+     * A grid over the resource's bytes in place, for inputs made of equally long lines.
+     */
+    default ByteGrid grid(final String resource) {
+        return ByteGrid.of(bytes(resource));
+    }
 }
@@ -0,0 +1,36 @@
+package com.github.jonnu.advent.common;
+
+/**
+ * Debug output of a puzzle (trees, grids, animation frames), kept apart from its answers. Drawing is usually far more
+ * expensive than the puzzle itself, so callers check {@link #isEnabled()} before rendering anything non-trivial; the
+ * {@link #QUIET} sink used for benchmarks drops everything without formatting it.
+ */
+public interface Trace {
+
+    Trace QUIET = new Trace() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void print(final String text) {
+        }
+    };
+
+    boolean isEnabled();
+
+    void print(String text);
+
+    default void println(final String line) {
+        if (isEnabled()) {
+            print(line + System.lineSeparator());
+        }
+    }
+
+    default void printf(final String format, final Object... args) {
+        if (isEnabled()) {
+            print(String.format(format, args));
+        }
+    }
+}
@@ -2,12 +2,31 @@ package com.github.jonnu.advent.inject;
 
 import com.github.jonnu.advent.common.BufferedResourceReader;
 import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
 import com.google.inject.Binder;
 import com.google.inject.Module;
 
 public class AdventModule implements Module {
+
+    private final ResourceReader resourceReader;
+    private final Trace trace;
+
+    public AdventModule() {
+        this(new BufferedResourceReader(), Trace.QUIET);
+    }
+
+    /**
+     * @param resourceReader where puzzles read their inputs from: the classpath, a directory, or a cache over either.
+     * @param trace where puzzles send their debug output.
+     */
+    public AdventModule(final ResourceReader resourceReader, final Trace trace) {
+        this.resourceReader = resourceReader;
+        this.trace = trace;
+    }
+
     @Override
     public void configure(Binder binder) {
-        binder.bind(ResourceReader.class).to(BufferedResourceReader.class);
+        binder.bind(Trace.class).toInstance(trace);
+        binder.bind(ResourceReader.class).toInstance(resourceReader);
     }
 }
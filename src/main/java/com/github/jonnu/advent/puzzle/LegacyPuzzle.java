@@ -0,0 +1,46 @@
+package com.github.jonnu.advent.puzzle;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Adapts a {@link Puzzle} which parses, solves and prints in a single {@link #solve()} to the {@link PhasedPuzzle} contract.
+ * Parsing and both parts happen (and print) during part one; parse and part two do nothing and no answers are returned.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LegacyPuzzle implements PhasedPuzzle<Void, Void, Void> {
+
+    @Getter
+    private final Puzzle delegate;
+
+    public static PhasedPuzzle<?, ?, ?> adapt(final Puzzle puzzle) {
+        return puzzle instanceof PhasedPuzzle<?, ?, ?> phased ? phased : new LegacyPuzzle(puzzle);
+    }
+
+    @Override
+    public Void parse() {
+        return null;
+    }
+
+    @Override
+    public Void partOne(final Void model) {
+        delegate.solve();
+        return null;
+    }
+
+    @Override
+    public Void partTwo(final Void model) {
+        return null;
+    }
+
+    @Override
+    public boolean isLegacy() {
+        return true;
+    }
+
+    @Override
+    public void solve() {
+        delegate.solve();
+    }
+}
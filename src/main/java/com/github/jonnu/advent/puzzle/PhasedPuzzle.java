@@ -0,0 +1,39 @@
+package com.github.jonnu.advent.puzzle;
+
+/**
+ * A puzzle split into phases which can be timed and run independently of one another.
+ * The input is parsed once into a model; each part then computes its answer from that model without printing it.
+ *
+ * @param <M> the parsed input model
+ * @param <A> the part one answer
+ * @param <B> the part two answer
+ */
+public interface PhasedPuzzle<M, A, B> extends Puzzle {
+
+    M parse();
+
+    A partOne(M model);
+
+    B partTwo(M model);
+
+    /**
+     * Whether this is a {@link LegacyPuzzle} wrapping a {@link Puzzle} that does all of its work in {@link #solve()}.
+     */
+    default boolean isLegacy() {
+        return false;
+    }
+
+    /**
+     * Whether the parts only read the model and share nothing else, so that the runner may run them at the same time.
+     */
+    default boolean hasIndependentParts() {
+        return false;
+    }
+
+    @Override
+    default void solve() {
+        M model = parse();
+        System.out.println("[Part 1] " + partOne(model));
+        System.out.println("[Part 2] " + partTwo(model));
+    }
+}
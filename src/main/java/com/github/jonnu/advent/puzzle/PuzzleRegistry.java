@@ -0,0 +1,56 @@
+package com.github.jonnu.advent.puzzle;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
+
+/**
+ * Compile-time wiring of every puzzle, for runs where creating an injector and scanning the classpath would take longer
+ * than solving. Each year's puzzles are listed by a {@code Puzzles} class in that year's package, which the JVM only
+ * loads once a puzzle of that year is asked for. A puzzle class itself is only loaded when its {@link #type} is asked
+ * for or it is constructed, since a class literal is only resolved once the switch branch naming it runs.
+ * A new puzzle has to be added to its year's {@code Puzzles} (and a new year here) to be reachable this way.
+ */
+public final class PuzzleRegistry {
+
+    private static final int[] YEARS = { 2021, 2022, 2023, 2024, 2025 };
+
+    private PuzzleRegistry() {
+    }
+
+    public static int[] years() {
+        return YEARS.clone();
+    }
+
+    public static int[] days(final int year) {
+        return switch (year) {
+            case 2021 -> com.github.jonnu.advent.puzzle.y2021.Puzzles.days();
+            case 2022 -> com.github.jonnu.advent.puzzle.y2022.Puzzles.days();
+            case 2023 -> com.github.jonnu.advent.puzzle.y2023.Puzzles.days();
+            case 2024 -> com.github.jonnu.advent.puzzle.y2024.Puzzles.days();
+            case 2025 -> com.github.jonnu.advent.puzzle.y2025.Puzzles.days();
+            default -> new int[0];
+        };
+    }
+
+    public static Class<? extends Puzzle> type(final int year, final int day) {
+        return switch (year) {
+            case 2021 -> com.github.jonnu.advent.puzzle.y2021.Puzzles.type(day);
+            case 2022 -> com.github.jonnu.advent.puzzle.y2022.Puzzles.type(day);
+            case 2023 -> com.github.jonnu.advent.puzzle.y2023.Puzzles.type(day);
+            case 2024 -> com.github.jonnu.advent.puzzle.y2024.Puzzles.type(day);
+            case 2025 -> com.github.jonnu.advent.puzzle.y2025.Puzzles.type(day);
+            default -> throw new IllegalArgumentException("Unknown puzzle: " + year + "/" + day);
+        };
+    }
+
+    public static Puzzle create(final int year, final int day, final ResourceReader resourceReader, final Trace trace) {
+        return switch (year) {
+            case 2021 -> com.github.jonnu.advent.puzzle.y2021.Puzzles.create(day, resourceReader, trace);
+            case 2022 -> com.github.jonnu.advent.puzzle.y2022.Puzzles.create(day, resourceReader, trace);
+            case 2023 -> com.github.jonnu.advent.puzzle.y2023.Puzzles.create(day, resourceReader, trace);
+            case 2024 -> com.github.jonnu.advent.puzzle.y2024.Puzzles.create(day, resourceReader, trace);
+            case 2025 -> com.github.jonnu.advent.puzzle.y2025.Puzzles.create(day, resourceReader, trace);
+            default -> throw new IllegalArgumentException("Unknown puzzle: " + year + "/" + day);
+        };
+    }
+}
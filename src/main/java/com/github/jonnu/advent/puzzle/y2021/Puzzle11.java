@@ -15,6 +15,7 @@ import java.util.stream.IntStream;
 import javax.inject.Inject;
 
 import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
 import com.github.jonnu.advent.common.geometry.Direction;
 import com.github.jonnu.advent.common.geometry.Point;
 import com.github.jonnu.advent.puzzle.Puzzle;
@@ -25,6 +26,7 @@ import lombok.SneakyThrows;
 public class Puzzle11 implements Puzzle {
 
     private final ResourceReader resourceReader;
+    private final Trace trace;
 
     @Override
     @SneakyThrows
@@ -100,12 +102,16 @@ public class Puzzle11 implements Puzzle {
 
                 if (step == 100) {
                     System.out.println("After step " + step + " (count: " + flashCount + ")");
-                    draw(octopuses, flashed);
+                    if (trace.isEnabled()) {
+                        draw(octopuses, flashed);
+                    }
                 }
             }
 
             System.out.println("Octopuses are in sync after " + step + " steps.");
-            draw(octopuses);
+            if (trace.isEnabled()) {
+                draw(octopuses);
+            }
         }
     }
 
@@ -116,21 +122,22 @@ public class Puzzle11 implements Puzzle {
     public static final String ANSI_RED = "\u001B[31m";
     public static final String ANSI_RESET = "\u001B[0m";
 
-    private static void draw(final Map<Point, Integer> points) {
+    private void draw(final Map<Point, Integer> points) {
         draw(points, Collections.emptySet());
     }
 
-    private static void draw(final Map<Point, Integer> points, final Set<Point> highlight) {
+    private void draw(final Map<Point, Integer> points, final Set<Point> highlight) {
         final IntSummaryStatistics xStats = points.keySet().stream().mapToInt(Point::getX).summaryStatistics();
         final IntSummaryStatistics yStats = points.keySet().stream().mapToInt(Point::getY).summaryStatistics();
+        StringBuilder frame = new StringBuilder();
         for (int y = yStats.getMin(); y <= yStats.getMax(); y++) {
             for (int x = xStats.getMin(); x <= xStats.getMax(); x++) {
                 Point p = new Point(x, y);
-                System.out.printf("%s%s%s", highlight.contains(p) ? ANSI_RED : "", points.get(p), highlight.contains(p) ? ANSI_RESET : "");
+                frame.append(highlight.contains(p) ? ANSI_RED : "").append(points.get(p)).append(highlight.contains(p) ? ANSI_RESET : "");
             }
-            System.out.printf("%n");
+            frame.append(System.lineSeparator());
         }
-        System.out.printf("%n");
+        trace.println(frame.toString());
     }
 
 }
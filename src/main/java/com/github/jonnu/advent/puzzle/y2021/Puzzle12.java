@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.inject.Inject;
 
+import com.github.jonnu.advent.common.Cancellation;
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AllArgsConstructor;
@@ -52,6 +53,7 @@ public class Puzzle12 implements Puzzle {
                 .collect(Collectors.toList())));
 
         while (!incomplete.isEmpty()) {
+            Cancellation.checkpoint();
             Path path = incomplete.poll();
             path.getCurrentCave().getAdjoiningCaves().stream().filter(cave -> !path.disallowedCaves().contains(cave)).forEach(cave -> {
                 Path possiblePath = path.createPossiblePath(cave);
@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
 import com.github.jonnu.advent.common.geometry.Point;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AccessLevel;
@@ -25,6 +26,7 @@ import lombok.SneakyThrows;
 public class Puzzle13 implements Puzzle {
 
     private final ResourceReader resourceReader;
+    private final Trace trace;
 
     @Override
     @SneakyThrows
@@ -73,24 +75,28 @@ public class Puzzle13 implements Puzzle {
             System.out.printf("After %d folds there are %d dots visible on the paper.%n", f + 1, points.size());
         }
 
-        draw(points, transformed);
+        // the folded paper spells out the answer, so it is printed either way; only the highlighted copy is debug output.
+        System.out.printf("%n%s%n", draw(points, Set.of()));
+        if (trace.isEnabled()) {
+            trace.println(draw(points, transformed));
+        }
     }
 
     private static final String ANSI_RED = "\u001B[31m";
     private static final String ANSI_RESET = "\u001B[0m";
 
-    private static void draw(final Set<Point> points, final Set<Point> highlight) {
+    private static String draw(final Set<Point> points, final Set<Point> highlight) {
         final IntSummaryStatistics xStats = points.stream().mapToInt(Point::getX).summaryStatistics();
         final IntSummaryStatistics yStats = points.stream().mapToInt(Point::getY).summaryStatistics();
-        System.out.printf("%n");
+        StringBuilder frame = new StringBuilder();
         for (int y = yStats.getMin(); y <= yStats.getMax(); y++) {
             for (int x = xStats.getMin(); x <= xStats.getMax(); x++) {
                 Point p = new Point(x, y);
-                System.out.print(points.contains(p) ? (highlight.contains(p) ? ANSI_RED + "▒" + ANSI_RESET : "▒") : " ");
+                frame.append(points.contains(p) ? (highlight.contains(p) ? ANSI_RED + "▒" + ANSI_RESET : "▒") : " ");
             }
-            System.out.printf("%n");
+            frame.append(System.lineSeparator());
         }
-        System.out.printf("%n");
+        return frame.toString();
     }
 
     @Getter(AccessLevel.PRIVATE)
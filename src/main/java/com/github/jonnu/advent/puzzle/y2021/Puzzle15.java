@@ -13,13 +13,12 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.function.ToIntBiFunction;
-import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.inject.Inject;
 
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.common.geometry.Point;
-import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +27,7 @@ import lombok.SneakyThrows;
 import lombok.ToString;
 
 @AllArgsConstructor(onConstructor = @__(@Inject))
-public class Puzzle15 implements Puzzle {
+public class Puzzle15 implements PhasedPuzzle<List<List<Integer>>, Integer, Integer> {
 
     private static final BiFunction<Point, Point, Integer> MANHATTAN_DISTANCE = (a, b) -> Math.abs(a.getX() - b.getX()) + Math.abs(a.getY() - b.getY());
     private static final ToIntBiFunction<Integer, Integer> INCREASE_HEURISTIC = (factor, i) -> i + factor >= 10 ? 1 + ((i + factor) % 10) : i + factor;
@@ -38,7 +37,7 @@ public class Puzzle15 implements Puzzle {
 
     @Override
     @SneakyThrows
-    public void solve() {
+    public List<List<Integer>> parse() {
         try (BufferedReader reader = resourceReader.read("y2021/puzzle15.txt")) {
 
             List<List<Integer>> grid = new ArrayList<>();
@@ -46,19 +45,30 @@ public class Puzzle15 implements Puzzle {
             String line = reader.readLine();
             while (line != null) {
                 final String data = line;
-                grid.add(IntStream.range(0, line.length()).mapToObj(i -> Integer.parseInt(Character.toString(data.charAt(i)))).collect(Collectors.toList()));
+                grid.add(IntStream.range(0, line.length()).mapToObj(i -> Integer.parseInt(Character.toString(data.charAt(i)))).toList());
                 line = reader.readLine();
             }
 
-            Path path = calculatePath(grid);
-            System.out.println("Lowest risk on part1 grid: " + path.getRisk());
-
-            grid = growGrid(grid, GROWTH_FACTOR, INCREASE_HEURISTIC);
-            path = calculatePath(grid);
-            System.out.println("Lowest risk on part2 grid: " + path.getRisk());
+            return List.copyOf(grid);
         }
     }
 
+    @Override
+    public boolean hasIndependentParts() {
+        return true;
+    }
+
+    @Override
+    public Integer partOne(final List<List<Integer>> grid) {
+        return calculatePath(grid).getRisk();
+    }
+
+    // the grown grid is built from (not in place of) the parsed one, so part one can still be reading it.
+    @Override
+    public Integer partTwo(final List<List<Integer>> grid) {
+        return calculatePath(growGrid(grid, GROWTH_FACTOR, INCREASE_HEURISTIC)).getRisk();
+    }
+
     private Path calculatePath(final List<List<Integer>> grid) {
 
         final Point start = new Point(0, 0);
@@ -1,8 +1,6 @@
 package com.github.jonnu.advent.puzzle.y2021;
 
-import java.io.BufferedReader;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -10,67 +8,56 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collector;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.inject.Inject;
 
+import com.github.jonnu.advent.common.ByteScanner;
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.common.geometry.Point;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
-import lombok.Setter;
-import lombok.SneakyThrows;
 
 @AllArgsConstructor(onConstructor = @__(@Inject))
 public class Puzzle5 implements Puzzle {
 
     private static final int DANGER_THRESHOLD = 2;
-    private static final String POINT_SEPARATOR = " -> ";
-    private static final String COORDINATE_SEPARATOR = ",";
 
     private final ResourceReader resourceReader;
 
     @Override
-    @SneakyThrows
     public void solve() {
-        try (BufferedReader reader = resourceReader.read("y2021/puzzle5.txt")) {
-
-            final List<Line> lines = new ArrayList<>();
-
-            String line = reader.readLine();
-            while (line != null) {
-                lines.add(Arrays.stream(line.split(POINT_SEPARATOR))
-                        .map(pair -> pair.split(COORDINATE_SEPARATOR))
-                        .map(x -> new Point(Integer.parseInt(x[0]), Integer.parseInt(x[1])))
-                        .collect(Collector.of(Line::new, Line::combine, (a, b) -> { throw new UnsupportedOperationException(); })));
-                line = reader.readLine();
-            }
+        final ByteScanner scanner = resourceReader.scan("y2021/puzzle5.txt");
+
+        // 0,9 -> 5,9
+        final List<Line> lines = new ArrayList<>();
+        while (scanner.hasNext()) {
+            lines.add(new Line(
+                    new Point(scanner.nextInt(), scanner.nextInt()),
+                    new Point(scanner.nextInt(), scanner.nextInt())));
+            scanner.nextLine();
+        }
 
-            final Map<Point, Long> straightCounts = lines.stream()
-                    .filter(Line::isStraight)
-                    .map(Line::covers)
-                    .flatMap(Set::stream)
-                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        final Map<Point, Long> straightCounts = lines.stream()
+                .filter(Line::isStraight)
+                .map(Line::covers)
+                .flatMap(Set::stream)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
 
-            final Map<Point, Long> allCounts = lines.stream()
-                    .map(Line::covers)
-                    .flatMap(Set::stream)
-                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        final Map<Point, Long> allCounts = lines.stream()
+                .map(Line::covers)
+                .flatMap(Set::stream)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
 
-            final long straightOverlappingPoints = straightCounts.values().stream().filter(x -> x >= DANGER_THRESHOLD).count();
-            final long allOverlappingPoints = allCounts.values().stream().filter(x -> x >= DANGER_THRESHOLD).count();
+        final long straightOverlappingPoints = straightCounts.values().stream().filter(x -> x >= DANGER_THRESHOLD).count();
+        final long allOverlappingPoints = allCounts.values().stream().filter(x -> x >= DANGER_THRESHOLD).count();
 
-            System.out.println("Straight lines with two-point overlaps: " + straightOverlappingPoints);
-            System.out.println("All lines with two-point overlaps: " + allOverlappingPoints);
-        }
+        System.out.println("Straight lines with two-point overlaps: " + straightOverlappingPoints);
+        System.out.println("All lines with two-point overlaps: " + allOverlappingPoints);
     }
 
     @AllArgsConstructor
-    @NoArgsConstructor
-    @Setter
     @Getter
     private static class Line {
 
@@ -99,14 +86,6 @@ public class Puzzle5 implements Puzzle {
             return covered;
         }
 
-        public void combine(final Point point) {
-            if (x == null) {
-                setX(point);
-            } else if (y == null) {
-                setY(point);
-            }
-        }
-
         @Override
         public String toString() {
             return x.toString() + " - " + y.toString();
@@ -0,0 +1,64 @@
+package com.github.jonnu.advent.puzzle.y2021;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
+import com.github.jonnu.advent.puzzle.Puzzle;
+
+/**
+ * The 2021 puzzles, constructed directly rather than through the injector. See {@code PuzzleRegistry}.
+ */
+public final class Puzzles {
+
+    private static final int[] DAYS = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 };
+
+    private Puzzles() {
+    }
+
+    public static int[] days() {
+        return DAYS.clone();
+    }
+
+    public static Class<? extends Puzzle> type(final int day) {
+        return switch (day) {
+            case 1 -> Puzzle1.class;
+            case 2 -> Puzzle2.class;
+            case 3 -> Puzzle3.class;
+            case 4 -> Puzzle4.class;
+            case 5 -> Puzzle5.class;
+            case 6 -> Puzzle6.class;
+            case 7 -> Puzzle7.class;
+            case 8 -> Puzzle8.class;
+            case 9 -> Puzzle9.class;
+            case 10 -> Puzzle10.class;
+            case 11 -> Puzzle11.class;
+            case 12 -> Puzzle12.class;
+            case 13 -> Puzzle13.class;
+            case 14 -> Puzzle14.class;
+            case 15 -> Puzzle15.class;
+            case 16 -> Puzzle16.class;
+            default -> throw new IllegalArgumentException("Unknown puzzle: 2021/" + day);
+        };
+    }
+
+    public static Puzzle create(final int day, final ResourceReader resourceReader, final Trace trace) {
+        return switch (day) {
+            case 1 -> new Puzzle1(resourceReader);
+            case 2 -> new Puzzle2(resourceReader);
+            case 3 -> new Puzzle3(resourceReader);
+            case 4 -> new Puzzle4(resourceReader);
+            case 5 -> new Puzzle5(resourceReader);
+            case 6 -> new Puzzle6(resourceReader);
+            case 7 -> new Puzzle7(resourceReader);
+            case 8 -> new Puzzle8(resourceReader);
+            case 9 -> new Puzzle9(resourceReader);
+            case 10 -> new Puzzle10(resourceReader);
+            case 11 -> new Puzzle11(resourceReader, trace);
+            case 12 -> new Puzzle12(resourceReader);
+            case 13 -> new Puzzle13(resourceReader, trace);
+            case 14 -> new Puzzle14(resourceReader);
+            case 15 -> new Puzzle15(resourceReader);
+            case 16 -> new Puzzle16(resourceReader);
+            default -> throw new IllegalArgumentException("Unknown puzzle: 2021/" + day);
+        };
+    }
+}
@@ -12,11 +12,12 @@ import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.common.geometry.Direction;
-import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -26,7 +27,9 @@ import lombok.Value;
 import lombok.experimental.SuperBuilder;
 
 @AllArgsConstructor(onConstructor = @__(@Inject))
-public class Puzzle12 implements Puzzle {
+public class Puzzle12 implements PhasedPuzzle<Puzzle12.Heightmap, Integer, Integer> {
+
+    private static final BiPredicate<Coordinate<Character>, Coordinate<Character>> DOWNHILL_TRAVERSAL = (from, to) -> from.getValue() <= to.getValue() + 1;
 
     private final ResourceReader resourceReader;
 
@@ -36,7 +39,7 @@ public class Puzzle12 implements Puzzle {
 
     @Override
     @SneakyThrows
-    public void solve() {
+    public Heightmap parse() {
         try (BufferedReader reader = resourceReader.read("y2022/puzzle12.txt")) {
 
             String line = reader.readLine();
@@ -81,29 +84,43 @@ public class Puzzle12 implements Puzzle {
                 }
             }
 
-            BiPredicate<Coordinate<Character>, Coordinate<Character>> uphillTraversal = (from, to) -> to.getValue() <= from.getValue() + 1;
-            BiPredicate<Coordinate<Character>, Coordinate<Character>> downhillTraversal = (from, to) -> from.getValue() <= to.getValue() + 1;
-
-            // Part one
-            CoordinateStar cs = new CoordinateStar(origin, finish, grid, new ChebyshevDistanceHeuristic<>(), downhillTraversal);
-            int smallest = cs.solve();
-            System.out.println("Smallest distance between " + origin + " and " + finish + ": " + cs.solve());
-
-            // Part two
-            // Ideally we would memoise for all 'a' or backtrack.
-            // But I am lazy. So lets bfs each from scratch and compare.
-            Coordinate<Character> twoStart = origin;
-            int shortestRouteTwo = allAs.stream()
-                    .map(a -> {
-                        try {
-                            return cs.solve(twoStart, a);
-                        } catch (TraversalException e) {
-                            return Integer.MAX_VALUE;
-                        }
-                    })
-                    .filter(x -> x > 0)
-                    .reduce(smallest, Math::min);
-            System.out.println("Smallest distance from " + twoStart + " to square with lowest elevation: " + shortestRouteTwo);
+            return new Heightmap(origin, finish, Set.copyOf(allAs), grid);
+        }
+    }
+
+    // each part searches with a star of its own, as a star keeps its route bookkeeping between searches.
+    @Override
+    public boolean hasIndependentParts() {
+        return true;
+    }
+
+    @Override
+    public Integer partOne(final Heightmap heightmap) {
+        return heightmap.star().solve();
+    }
+
+    @Override
+    public Integer partTwo(final Heightmap heightmap) {
+        // Ideally we would memoise for all 'a' or backtrack.
+        // But I am lazy. So lets bfs each from scratch and compare.
+        // The start square is an 'a' too, though it was relabelled 'z' while parsing.
+        CoordinateStar cs = heightmap.star();
+        return Stream.concat(Stream.of(heightmap.finish()), heightmap.lowest().stream())
+                .map(a -> {
+                    try {
+                        return cs.solve(heightmap.origin(), a);
+                    } catch (TraversalException e) {
+                        return Integer.MAX_VALUE;
+                    }
+                })
+                .filter(x -> x > 0)
+                .reduce(Integer.MAX_VALUE, Math::min);
+    }
+
+    record Heightmap(Coordinate<Character> origin, Coordinate<Character> finish, Set<Coordinate<Character>> lowest, ArrayList<ArrayList<Coordinate<Character>>> grid) {
+
+        CoordinateStar star() {
+            return new CoordinateStar(origin, finish, grid, new ChebyshevDistanceHeuristic<>(), DOWNHILL_TRAVERSAL);
         }
     }
 
@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 import javax.inject.Inject;
 
 import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -26,11 +27,12 @@ public class Puzzle14 implements Puzzle {
     private static final Coordinate SAND_ORIGIN = new Coordinate(500, 0);
 
     private final ResourceReader resourceReader;
-    private final Cave cave = new Cave(SAND_ORIGIN);
+    private final Trace trace;
 
     @Override
     @SneakyThrows
     public void solve() {
+        final Cave cave = new Cave(SAND_ORIGIN);
         try (BufferedReader reader = resourceReader.read("y2022/puzzle14.txt")) {
 
             String line = reader.readLine();
@@ -44,11 +46,9 @@ public class Puzzle14 implements Puzzle {
         }
 
         while (cave.simulate(true)) {
-            if (RENDER_STEP_SLEEP_MS > 0) {
+            if (RENDER_STEP_SLEEP_MS > 0 && trace.isEnabled()) {
                 Thread.sleep(RENDER_STEP_SLEEP_MS);
-                System.out.print("\033[H\033[2J");
-                System.out.flush();
-                cave.render();
+                trace.print("\033[H\033[2J" + cave.render());
             }
         }
 
@@ -110,19 +110,21 @@ public class Puzzle14 implements Puzzle {
             return createSand() && moveSand(withCaveFloor);
         }
 
-        public void render() {
+        public String render() {
 
             int ay = getCells().firstKey();
             int by = getCells().lastKey();
             int ax = getCells().values().stream().mapToInt(TreeMap::firstKey).min().orElse(0);
             int bx = getCells().values().stream().mapToInt(TreeMap::lastKey).max().orElse(0);
 
+            StringBuilder frame = new StringBuilder();
             for (int y = ay; y <= by; y++) {
                 for (int x = ax; x <= bx; x++) {
-                    System.out.printf("%s", getCell(x, y));
+                    frame.append(getCell(x, y));
                 }
-                System.out.printf("%n");
+                frame.append(System.lineSeparator());
             }
+            return frame.toString();
         }
 
         private String getCell(final int x, final int y) {
@@ -1,5 +1,6 @@
 package com.github.jonnu.advent.puzzle.y2022;
 
+import com.github.jonnu.advent.common.ByteScanner;
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import com.google.common.collect.ImmutableSet;
@@ -8,19 +9,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import lombok.SneakyThrows;
 import lombok.Value;
 
 import javax.inject.Inject;
-import java.io.BufferedReader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiFunction;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -33,29 +30,20 @@ public class Puzzle15 implements Puzzle {
     private static final int MISSING_BEACON_MAXIMUM_X = 4_000_000;
     private static final int MISSING_BEACON_MAXIMUM_Y = 4_000_000;
 
-    private static final Pattern PATTERN = Pattern.compile("^.*?x=(?<sx>-?\\d+),\\sy=(?<sy>-?\\d+):.*?x=(?<bx>-?\\d+),\\sy=(?<by>-?\\d+)$");
-
     private static final BiFunction<Point, Point, Integer> POINT_MANHATTAN_DISTANCE = (current, next) ->
             Math.abs(current.getX() - next.getX()) + Math.abs(current.getY() - next.getY());
 
     private final ResourceReader resourceReader;
 
     @Override
-    @SneakyThrows
     public void solve() {
 
+        // Sensor at x=2, y=18: closest beacon is at x=-2, y=15
         final List<Sensor> sensors = new ArrayList<>();
-        try (BufferedReader reader = resourceReader.read("y2022/puzzle15.txt")) {
-            String line = reader.readLine();
-            while (line != null) {
-                final Matcher matcher = PATTERN.matcher(line);
-                if (!matcher.matches()) {
-                    throw new IllegalArgumentException("Unable to match input: " + line);
-                }
-
-                sensors.add(Sensor.createFromMatch(matcher));
-                line = reader.readLine();
-            }
+        final ByteScanner scanner = resourceReader.scan("y2022/puzzle15.txt");
+        while (scanner.hasNext()) {
+            sensors.add(Sensor.create(scanner.nextInt(), scanner.nextInt(), scanner.nextInt(), scanner.nextInt()));
+            scanner.nextLine();
         }
 
         // set of all beacons
@@ -106,11 +94,6 @@ public class Puzzle15 implements Puzzle {
     @AllArgsConstructor
     private static class Sensor {
 
-        private static final String SENSOR_X = "sx";
-        private static final String SENSOR_Y = "sy";
-        private static final String BEACON_X = "bx";
-        private static final String BEACON_Y = "by";
-
         Point point;
         Point beacon;
         int distance;
@@ -149,15 +132,15 @@ public class Puzzle15 implements Puzzle {
             );
         }
 
-        public static Sensor createFromMatch(final Matcher matcher) {
+        public static Sensor create(final int sensorX, final int sensorY, final int beaconX, final int beaconY) {
 
             final Point sp = Point.builder()
-                    .x(Integer.parseInt(matcher.group(SENSOR_X)))
-                    .y(Integer.parseInt(matcher.group(SENSOR_Y)))
+                    .x(sensorX)
+                    .y(sensorY)
                     .build();
             final Point bp = Point.builder()
-                    .x(Integer.parseInt(matcher.group(BEACON_X)))
-                    .y(Integer.parseInt(matcher.group(BEACON_Y)))
+                    .x(beaconX)
+                    .y(beaconY)
                     .build();
 
             return Sensor.builder()
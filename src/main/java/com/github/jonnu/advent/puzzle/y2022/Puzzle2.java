@@ -63,20 +63,17 @@ public class Puzzle2 implements Puzzle {
         }
     }
 
-    private static final Map<String, Integer> MEMOIZE = new HashMap<>();
-    private static final Map<String, Integer> MEMOIZE2 = new HashMap<>();
-
     private static final BiMap<Shape, Shape> BEATS = ImmutableBiMap.<Shape, Shape>builder()
             .put(Shape.ROCK, Shape.SCISSORS)
             .put(Shape.PAPER, Shape.ROCK)
             .put(Shape.SCISSORS, Shape.PAPER)
             .build();
 
-    private int computeOutcomePair(final String left, final String right) {
+    private int computeOutcomePair(final String left, final String right, final Map<String, Integer> memoize) {
         final Shape opponent = Shape.fromCharacter(left);
         final Outcome outcome = Outcome.fromCharacter(right);
 
-        return MEMOIZE2.computeIfAbsent(left + right, s -> {
+        return memoize.computeIfAbsent(left + right, s -> {
             Shape you;
             switch (outcome) {
                 case WIN -> you = BEATS.inverse().get(opponent);
@@ -88,11 +85,11 @@ public class Puzzle2 implements Puzzle {
         });
     }
 
-    private int computeScorePair(String left, String right) {
+    private int computeScorePair(String left, String right, final Map<String, Integer> memoize) {
         Shape opponent = Shape.fromCharacter(left);
         Shape you = Shape.fromCharacter(right);
 
-        return MEMOIZE.computeIfAbsent(left + right, s -> {
+        return memoize.computeIfAbsent(left + right, s -> {
             int score = you.getScore();
 
             // draw
@@ -113,12 +110,15 @@ public class Puzzle2 implements Puzzle {
         BufferedReader reader = resourceReader.read("y2022/puzzle2.txt");
         String line = reader.readLine();
 
+        final Map<String, Integer> scores = new HashMap<>();
+        final Map<String, Integer> outcomes = new HashMap<>();
+
         int score = 0;
         int score2 = 0;
         while (line != null) {
             String[] pieces = line.split("\\s+");
-            score += computeScorePair(pieces[0], pieces[1]);
-            score2 += computeOutcomePair(pieces[0], pieces[1]);
+            score += computeScorePair(pieces[0], pieces[1], scores);
+            score2 += computeOutcomePair(pieces[0], pieces[1], outcomes);
             line = reader.readLine();
         }
         reader.close();
@@ -1,6 +1,7 @@
 package com.github.jonnu.advent.puzzle.y2022;
 
 import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,10 +27,8 @@ public class Puzzle7 implements Puzzle {
     private static final int COMMS_UPDATE_SIZE = 30_000_000;
     private static final int ACCUMULATOR_THRESHOLD = 100_000;
 
-    private static final AtomicInteger ACCUMULATOR = new AtomicInteger(0);
-    private static final PriorityQueue<File> DIRECTORY_SIZE_HEAP = new PriorityQueue<>(Comparator.comparingInt(File::getSize));
-
     private final ResourceReader resourceReader;
+    private final Trace trace;
 
     @Override
     @SneakyThrows
@@ -84,51 +83,50 @@ public class Puzzle7 implements Puzzle {
                 line = reader.readLine();
             }
 
-            printDebug(root);
+            final AtomicInteger accumulator = new AtomicInteger(0);
+            final PriorityQueue<File> directorySizeHeap = new PriorityQueue<>(Comparator.comparingInt(File::getSize));
+            index(root, accumulator, directorySizeHeap);
 
-            System.out.println("Accumulated size of sub-100K size directories: " + ACCUMULATOR.get());
+            System.out.println("Accumulated size of sub-100K size directories: " + accumulator.get());
 
-            Optional.ofNullable(getSmallestCandidateDirectory(Math.abs((FILESYSTEM_SIZE - root.getSize()) - COMMS_UPDATE_SIZE)))
+            Optional.ofNullable(getSmallestCandidateDirectory(directorySizeHeap, Math.abs((FILESYSTEM_SIZE - root.getSize()) - COMMS_UPDATE_SIZE)))
                     .ifPresent(file -> System.out.println("Directory to delete for update: " + file.getName() + " (size: " + file.getSize() + ")"));
         }
     }
 
     @Nullable
-    private static File getSmallestCandidateDirectory(final int sizeThreshold) {
-        File file = DIRECTORY_SIZE_HEAP.poll();
+    private static File getSmallestCandidateDirectory(final PriorityQueue<File> directorySizeHeap, final int sizeThreshold) {
+        File file = directorySizeHeap.poll();
         while (file != null) {
             if (file.getSize() > sizeThreshold) {
                 return file;
             }
-            file = DIRECTORY_SIZE_HEAP.poll();
+            file = directorySizeHeap.poll();
         }
         return null;
     }
 
-    private static void printDebug(File file) {
-        printDebug(file, 0);
+    private void index(File file, AtomicInteger accumulator, PriorityQueue<File> directorySizeHeap) {
+        index(file, 0, accumulator, directorySizeHeap);
     }
 
-    private static void printDebug(File file, int depth) {
+    // walks the tree accumulating directory sizes, tracing it as it goes.
+    private void index(File file, int depth, AtomicInteger accumulator, PriorityQueue<File> directorySizeHeap) {
 
-        for (int i = 0; i < depth; i++) {
-            System.out.print("  ");
+        if (trace.isEnabled()) {
+            trace.printf("%s- %s %s%n", "  ".repeat(depth), file.getName(), file.getDescription());
         }
 
-        System.out.printf("- %s %s%n", file.getName(), file.getDescription());
         file.getChildren().forEach(child -> {
             if (child.getType().equals(FileType.DIRECTORY)) {
-                printDebug(child, depth + 1);
+                index(child, depth + 1, accumulator, directorySizeHeap);
                 if (child.getSize() <= ACCUMULATOR_THRESHOLD) {
-                    ACCUMULATOR.getAndAdd(child.getSize());
+                    accumulator.getAndAdd(child.getSize());
                 }
 
-                DIRECTORY_SIZE_HEAP.add(child);
-            } else if (child.getType().equals(FileType.FILE)) {
-                for (int i = 0; i <= depth; i++) {
-                    System.out.print("  ");
-                }
-                System.out.printf("- %s %s%n", child.getName(), child.getDescription());
+                directorySizeHeap.add(child);
+            } else if (child.getType().equals(FileType.FILE) && trace.isEnabled()) {
+                trace.printf("%s- %s %s%n", "  ".repeat(depth + 1), child.getName(), child.getDescription());
             }
         });
     }
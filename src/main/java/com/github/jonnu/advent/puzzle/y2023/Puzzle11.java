@@ -2,7 +2,7 @@ package com.github.jonnu.advent.puzzle.y2023;
 
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.common.geometry.Point;
-import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.Value;
@@ -17,14 +17,17 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 @AllArgsConstructor(onConstructor = @__(@Inject))
-public class Puzzle11 implements Puzzle {
+public class Puzzle11 implements PhasedPuzzle<Puzzle11.Universe, Long, Long> {
 
     private static final int GALAXY = '#';
+    private static final int EXPANSION = 1;
+    private static final int OLDER_EXPANSION = 1_000_000;
+
     private final ResourceReader resourceReader;
 
     @Override
     @SneakyThrows
-    public void solve() {
+    public Universe parse() {
         try (BufferedReader reader = resourceReader.read("y2023/puzzle11.txt")) {
 
             Set<Point> galaxies = new HashSet<>();
@@ -61,14 +64,28 @@ public class Puzzle11 implements Puzzle {
                     .boxed()
                     .collect(Collectors.toSet());
 
-            final long shortestPaths = shortestGalaxyPath(galaxies, rowShift, colShift, 1);
-            final long shortestPathsMillion = shortestGalaxyPath(galaxies, rowShift, colShift, 1_000_000);
-
-            System.out.println("Sum of shortest paths: " + shortestPaths);
-            System.out.println("Sum of 10^6 shortest paths: " + shortestPathsMillion);
+            return new Universe(Set.copyOf(galaxies), Set.copyOf(rowShift), Set.copyOf(colShift));
         }
     }
 
+    @Override
+    public boolean hasIndependentParts() {
+        return true;
+    }
+
+    @Override
+    public Long partOne(final Universe universe) {
+        return shortestGalaxyPath(universe.galaxies(), universe.rowShift(), universe.colShift(), EXPANSION);
+    }
+
+    @Override
+    public Long partTwo(final Universe universe) {
+        return shortestGalaxyPath(universe.galaxies(), universe.rowShift(), universe.colShift(), OLDER_EXPANSION);
+    }
+
+    record Universe(Set<Point> galaxies, Set<Integer> rowShift, Set<Integer> colShift) {
+    }
+
     private static long shortestGalaxyPath(final Set<Point> galaxies, final Set<Integer> rowShift, final Set<Integer> colShift, final int shiftFactor) {
 
         final Set<Point> shifted = galaxies.stream()
@@ -16,6 +16,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.inject.Inject;
 
+import com.github.jonnu.advent.common.Cancellation;
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.common.geometry.Direction;
 import com.github.jonnu.advent.common.geometry.Point;
@@ -40,9 +41,6 @@ public class Puzzle14 implements Puzzle {
 
     private final ResourceReader resourceReader;
 
-
-    private final Map<String, Integer> cache = new HashMap<>();
-
     @Override
     @SneakyThrows
     public void solve() {
@@ -69,6 +67,7 @@ public class Puzzle14 implements Puzzle {
             System.out.println("Total load on the north support beams: " + grid.computeWeight());
 
             // @TODO - Improve the part 2 algorithm. It takes ~57s.
+            final Map<String, Integer> cache = new HashMap<>();
             int cycle = 0;
             int cycles = 1_000_000_000;
             while (cycle < cycles) {
@@ -169,6 +168,7 @@ public class Puzzle14 implements Puzzle {
         }
 
         public void spin() {
+            Cancellation.checkpoint();
             for (Direction direction : SPIN_CYCLE) {
                 tilt(direction);
             }
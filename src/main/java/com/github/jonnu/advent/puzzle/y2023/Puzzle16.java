@@ -33,13 +33,12 @@ public class Puzzle16 implements Puzzle {
 
     private final ResourceReader resourceReader;
 
-    private final Map<Point, BeamMutator> grid = new HashMap<>();
-
     @Override
     @SneakyThrows
     public void solve() {
         try (BufferedReader reader = resourceReader.read("y2023/puzzle16.txt")) {
 
+            final Map<Point, BeamMutator> grid = new HashMap<>();
             int row = 0;
             String line = reader.readLine();
             while (line != null) {
@@ -56,7 +55,7 @@ public class Puzzle16 implements Puzzle {
                 row++;
             }
 
-            System.out.println("Energised: " + solve(Beam.at(-1, 0, Direction.EAST)));
+            System.out.println("Energised: " + solve(grid, Beam.at(-1, 0, Direction.EAST)));
 
             final int maxX = grid.keySet().stream().mapToInt(Point::getX).summaryStatistics().getMax();
             final int maxY = grid.keySet().stream().mapToInt(Point::getY).summaryStatistics().getMax();
@@ -73,13 +72,13 @@ public class Puzzle16 implements Puzzle {
 
             System.out.println("Max energised: " + Stream.of(e, w, s, n)
                     .flatMap(Collection::stream)
-                    .mapToInt(this::solve)
+                    .mapToInt(beam -> solve(grid, beam))
                     .max()
                     .orElseThrow(() -> new IllegalStateException("No max")));
         }
     }
 
-    private int solve(final Beam initial) {
+    private int solve(final Map<Point, BeamMutator> grid, final Beam initial) {
 
         final Map<Point, Set<Beam>> energised = new HashMap<>();
         final Queue<Beam> beams = new ArrayDeque<>();
@@ -17,6 +17,7 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import javax.inject.Inject;
 
+import com.github.jonnu.advent.common.Cancellation;
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AllArgsConstructor;
@@ -32,16 +33,17 @@ import lombok.experimental.SuperBuilder;
 public class Puzzle20 implements Puzzle {
 
     private static final Pattern PATTERN = Pattern.compile("^(?<type>[%&])?(?<name>[a-z]+)\\s->\\s(?<destination>[a-z, ]+)$");
-    private static final Machine MACHINE = Machine.builder().build();
 
     private final ResourceReader resourceReader;
-    private final Map<String, Module> modules = new HashMap<>();
 
     @Override
     @SneakyThrows
     public void solve() {
         try (BufferedReader reader = resourceReader.read("y2023/puzzle20.txt")) {
 
+            final Map<String, Module> modules = new HashMap<>();
+            final Machine machine = Machine.builder().build();
+
             String line = reader.readLine();
             while (line != null) {
 
@@ -71,16 +73,16 @@ public class Puzzle20 implements Puzzle {
                 line = reader.readLine();
             }
 
-            MACHINE.setModules(modules);
+            machine.setModules(modules);
 
             // Part 1
-            IntStream.range(0, 1_000).forEach(i -> MACHINE.pressButton());
-            System.out.println("Low and High pulses multiplied after 1,000 presses: " + MACHINE.getPulseValue());
+            IntStream.range(0, 1_000).forEach(i -> machine.pressButton());
+            System.out.println("Low and High pulses multiplied after 1,000 presses: " + machine.getPulseValue());
 
             // Part 2
             long output = 0;
             while (output == 0) {
-                output = MACHINE.pressButton();
+                output = machine.pressButton();
             }
 
             System.out.println("Lowest number of presses until low-pulse sent to 'rx': " + output);
@@ -123,9 +125,10 @@ public class Puzzle20 implements Puzzle {
 
         public long pressButton() {
 
+            Cancellation.checkpoint();
             cycle++;
 
-            module.process(PulseRequest.builder()
+            module.process(this, PulseRequest.builder()
                     .cycle(cycle)
                     .pulse(Pulse.LOW)
                     .origin(module.getName())
@@ -163,8 +166,8 @@ public class Puzzle20 implements Puzzle {
         public long process() {
             while (!pulseQueue.isEmpty()) {
                 PulseRequest request = pulseQueue.poll();
-                MACHINE.getModule(request.getDestination()).process(request);
-                long output = MACHINE.record(request);
+                getModule(request.getDestination()).process(this, request);
+                long output = record(request);
                 if (output > 0) {
                     return output;
                 }
@@ -180,7 +183,7 @@ public class Puzzle20 implements Puzzle {
         protected String name;
         protected List<String> destinations;
 
-        abstract void process(PulseRequest request);
+        abstract void process(Machine machine, PulseRequest request);
     }
 
     @SuperBuilder
@@ -189,7 +192,7 @@ public class Puzzle20 implements Puzzle {
     private static class SinkModule extends Module {
 
         @Override
-        public void process(PulseRequest request) {
+        public void process(Machine machine, PulseRequest request) {
             // no-op.
         }
     }
@@ -206,7 +209,7 @@ public class Puzzle20 implements Puzzle {
                 .build();
 
         @Override
-        public void process(PulseRequest request) {
+        public void process(Machine machine, PulseRequest request) {
             getDestinations().forEach(destination -> {
                 PulseRequest outbound = PulseRequest.builder()
                         .cycle(request.getCycle())
@@ -214,7 +217,7 @@ public class Puzzle20 implements Puzzle {
                         .destination(destination)
                         .pulse(request.getPulse())
                         .build();
-                MACHINE.enqueue(outbound);
+                machine.enqueue(outbound);
             });
         }
     }
@@ -227,7 +230,7 @@ public class Puzzle20 implements Puzzle {
         private boolean state;
 
         @Override
-        public void process(PulseRequest request) {
+        public void process(Machine machine, PulseRequest request) {
 
             if (Pulse.HIGH.equals(request.getPulse())) {
                 return;
@@ -243,7 +246,7 @@ public class Puzzle20 implements Puzzle {
                         .destination(destination)
                         .pulse(outboundPulse)
                         .build();
-                MACHINE.enqueue(outbound);
+                machine.enqueue(outbound);
             });
         }
     }
@@ -260,7 +263,7 @@ public class Puzzle20 implements Puzzle {
         }
 
         @Override
-        public void process(PulseRequest request) {
+        public void process(Machine machine, PulseRequest request) {
 
             lastPulse.put(request.getOrigin(), request.getPulse());
             Pulse outboundPulse = lastPulse.values().stream().allMatch(Pulse.HIGH::equals) ? Pulse.LOW : Pulse.HIGH;
@@ -272,7 +275,7 @@ public class Puzzle20 implements Puzzle {
                         .destination(destination)
                         .pulse(outboundPulse)
                         .build();
-                MACHINE.enqueue(outbound);
+                machine.enqueue(outbound);
             });
         }
     }
@@ -35,13 +35,14 @@ public class Puzzle5 implements Puzzle {
     );
 
     private final ResourceReader resourceReader;
-    private final Map<String, List<Almanac>> almanacs = new HashMap<>();
 
     @Override
     @SneakyThrows
     public void solve() {
         try (BufferedReader reader = resourceReader.read("y2023/puzzle5.txt")) {
 
+            final Map<String, List<Almanac>> almanacs = new HashMap<>();
+
             String line = reader.readLine();
             List<Long> seeds = new ArrayList<>();
             String current = "";
@@ -88,7 +89,7 @@ public class Puzzle5 implements Puzzle {
                 almanacs.get(current).add(almanac);
             }
 
-            System.out.println("Lowest initial seed location: " + seeds.stream().mapToLong(this::locationForSeed).min().orElse(0L));
+            System.out.println("Lowest initial seed location: " + seeds.stream().mapToLong(seed -> locationForSeed(almanacs, seed)).min().orElse(0L));
 
             Queue<Range> ranges = IntStream.range(0, seeds.size() / 2)
                     .mapToObj(i -> Range.builder()
@@ -98,11 +99,11 @@ public class Puzzle5 implements Puzzle {
                             .build())
                     .collect(Collectors.toCollection(ArrayDeque::new));
 
-            System.out.println("Lowest range seed location: " + lowestLocationForInitialSeed(ranges));
+            System.out.println("Lowest range seed location: " + lowestLocationForInitialSeed(almanacs, ranges));
         }
     }
 
-    private long locationForSeed(long seed) {
+    private long locationForSeed(final Map<String, List<Almanac>> almanacs, long seed) {
         for (String mapping : TYPES) {
             long finalSeed = seed;
             seed = almanacs.get(mapping)
@@ -116,7 +117,7 @@ public class Puzzle5 implements Puzzle {
         return seed;
     }
 
-    private long lowestLocationForInitialSeed(final Queue<Range> ranges) {
+    private long lowestLocationForInitialSeed(final Map<String, List<Almanac>> almanacs, final Queue<Range> ranges) {
         long value = Long.MAX_VALUE;
 
         while (!ranges.isEmpty()) {
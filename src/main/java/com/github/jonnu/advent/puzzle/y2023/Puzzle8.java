@@ -30,14 +30,13 @@ public class Puzzle8 implements Puzzle {
 
     private final ResourceReader resourceReader;
 
-    private final Map<String, Node> nodes = new HashMap<>();
-    private final List<String> directions = new ArrayList<>();
-
     @Override
     @SneakyThrows
     public void solve() {
         try (BufferedReader reader = resourceReader.read("y2023/puzzle8.txt")) {
 
+            final Map<String, Node> nodes = new HashMap<>();
+            final List<String> directions = new ArrayList<>();
             directions.addAll(reader.readLine()
                     .chars()
                     .mapToObj(Character::toString)
@@ -69,10 +68,10 @@ public class Puzzle8 implements Puzzle {
                 line = reader.readLine();
             }
 
-            long part1 = solve("AAA", d -> d.equals("ZZZ"));
+            long part1 = solve(nodes, directions, "AAA", d -> d.equals("ZZZ"));
 
             long[] destinations = starts.stream()
-                    .mapToLong(node -> solve(node, d -> d.endsWith("Z")))
+                    .mapToLong(node -> solve(nodes, directions, node, d -> d.endsWith("Z")))
                     .toArray();
 
             System.out.println("Output 1: " + part1);
@@ -80,7 +79,7 @@ public class Puzzle8 implements Puzzle {
         }
     }
 
-    private long solve(final String start, final Predicate<String> destination) {
+    private long solve(final Map<String, Node> nodes, final List<String> directions, final String start, final Predicate<String> destination) {
         String current = start;
         int step = 0;
         for ( ; ; ) {
@@ -1,14 +1,12 @@
 package com.github.jonnu.advent.puzzle.y2023;
 
+import com.github.jonnu.advent.common.ByteScanner;
 import com.github.jonnu.advent.common.ResourceReader;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AllArgsConstructor;
-import lombok.SneakyThrows;
 
 import javax.inject.Inject;
-import java.io.BufferedReader;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
@@ -19,35 +17,30 @@ public class Puzzle9 implements Puzzle {
     private final ResourceReader resourceReader;
 
     @Override
-    @SneakyThrows
     public void solve() {
-        try (BufferedReader reader = resourceReader.read("y2023/puzzle9.txt")) {
+        final ByteScanner scanner = resourceReader.scan("y2023/puzzle9.txt");
 
-            final List<List<Long>> data = new ArrayList<>();
-
-            String line = reader.readLine();
-            while (line != null) {
-
-                data.add(Arrays.stream(line.split("\\s+"))
-                        .filter(str -> !str.isBlank())
-                        .map(Long::valueOf)
-                        .collect(Collectors.toList()));
-
-                line = reader.readLine();
-            }
-
-            long i = 0;
-            long k = 0;
-            for (List<Long> in : data) {
-                long d = findNextValue(in);
-                long j = findPrevValue(in);
-                i += d;
-                k += j;
+        final List<List<Long>> data = new ArrayList<>();
+        while (scanner.hasNext()) {
+            final List<Long> values = new ArrayList<>();
+            while (!scanner.isEndOfLine()) {
+                values.add(scanner.nextLong());
             }
+            data.add(values);
+            scanner.nextLine();
+        }
 
-            System.out.println("Sum of extrapolated values: " + i);
-            System.out.println("Sum of backwards extrapolation: " + k);
+        long i = 0;
+        long k = 0;
+        for (List<Long> in : data) {
+            long d = findNextValue(in);
+            long j = findPrevValue(in);
+            i += d;
+            k += j;
         }
+
+        System.out.println("Sum of extrapolated values: " + i);
+        System.out.println("Sum of backwards extrapolation: " + k);
     }
 
     private static long findPrevValue(final List<Long> input) {
@@ -1,7 +1,7 @@
 package com.github.jonnu.advent.puzzle.y2025;
 
 import com.github.jonnu.advent.common.ResourceReader;
-import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 
@@ -11,26 +11,28 @@ import java.util.Arrays;
 import java.util.List;
 
 @AllArgsConstructor(onConstructor = @__(@Inject))
-public class Puzzle2 implements Puzzle {
+public class Puzzle2 implements PhasedPuzzle<List<Puzzle2.Pair<String>>, Long, Long> {
 
     private final ResourceReader resourceReader;
 
     @Override
     @SneakyThrows
-    public void solve() {
+    public List<Pair<String>> parse() {
         try (BufferedReader reader = resourceReader.read("y2025/puzzle2.txt")) {
-
-            List<Pair<String>> input = Arrays.stream(reader.readLine().split(","))
+            return Arrays.stream(reader.readLine().split(","))
                     .map(pair -> pair.split("-"))
                     .map(pair -> new Pair<>(pair[0], pair[1]))
                     .toList();
-
-            System.out.println("[Part 1] " + part1(input));
-            System.out.println("[Part 2] " + part2(input));
         }
     }
 
-    private static long part1(final List<Pair<String>> input) {
+    @Override
+    public boolean hasIndependentParts() {
+        return true;
+    }
+
+    @Override
+    public Long partOne(final List<Pair<String>> input) {
         long sum = 0;
         for (Pair<String> pair : input) {
             for (long i = Long.parseLong(pair.left()); i <= Long.parseLong(pair.right()); i++) {
@@ -50,7 +52,8 @@ public class Puzzle2 implements Puzzle {
         return sum;
     }
 
-    private static long part2(final List<Pair<String>> input) {
+    @Override
+    public Long partTwo(final List<Pair<String>> input) {
         long sum = 0;
         for (Pair<String> pair : input) {
             for (long i = Long.parseLong(pair.left()); i <= Long.parseLong(pair.right()); i++) {
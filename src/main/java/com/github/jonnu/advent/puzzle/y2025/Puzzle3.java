@@ -1,15 +1,16 @@
 package com.github.jonnu.advent.puzzle.y2025;
 
 import com.github.jonnu.advent.common.ResourceReader;
-import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 
 import javax.inject.Inject;
 import java.io.BufferedReader;
+import java.util.List;
 
 @AllArgsConstructor(onConstructor = @__(@Inject))
-public class Puzzle3 implements Puzzle {
+public class Puzzle3 implements PhasedPuzzle<List<String>, Long, Long> {
 
     private static final int PART1_JOLT = 2;
     private static final int PART2_JOLT = 12;
@@ -18,22 +19,33 @@ public class Puzzle3 implements Puzzle {
 
     @Override
     @SneakyThrows
-    public void solve() {
+    public List<String> parse() {
         try (BufferedReader reader = resourceReader.read("y2025/puzzle3.txt")) {
+            return reader.lines().toList();
+        }
+    }
 
-            long answer1 = 0;
-            long answer2 = 0;
+    @Override
+    public boolean hasIndependentParts() {
+        return true;
+    }
 
-            String line = reader.readLine();
-            while (line != null) {
-                answer1 += largestEmbedded(line, PART1_JOLT);
-                answer2 += largestEmbedded(line, PART2_JOLT);
-                line = reader.readLine();
-            }
+    @Override
+    public Long partOne(final List<String> banks) {
+        return totalJoltage(banks, PART1_JOLT);
+    }
+
+    @Override
+    public Long partTwo(final List<String> banks) {
+        return totalJoltage(banks, PART2_JOLT);
+    }
 
-            System.out.println("Total output joltage (part 1): " + answer1);
-            System.out.println("Total output joltage (part 2): " + answer2);
+    private static long totalJoltage(final List<String> banks, final int length) {
+        long answer = 0;
+        for (String bank : banks) {
+            answer += largestEmbedded(bank, length);
         }
+        return answer;
     }
 
     private static long largestEmbedded(final String string, final int length) {
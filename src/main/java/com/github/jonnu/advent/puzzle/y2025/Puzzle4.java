@@ -1,6 +1,7 @@
 package com.github.jonnu.advent.puzzle.y2025;
 
 import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
 import com.github.jonnu.advent.common.geometry.Point;
 import com.github.jonnu.advent.puzzle.Puzzle;
 import lombok.AllArgsConstructor;
@@ -17,14 +18,14 @@ import java.util.stream.Collectors;
 public class Puzzle4 implements Puzzle {
 
     private final ResourceReader resourceReader;
-
-    private final Set<Point> grid = new HashSet<>();
+    private final Trace trace;
 
     @Override
     @SneakyThrows
     public void solve() {
         try (BufferedReader reader = resourceReader.read("y2025/puzzle4.txt")) {
 
+            final Set<Point> grid = new HashSet<>();
             int maxX = -1;
             int maxY = 0;
             String line = reader.readLine();
@@ -55,7 +56,9 @@ public class Puzzle4 implements Puzzle {
                 grid.removeAll(accessible);
             }
 
-            draw(grid, new HashSet<>());
+            if (trace.isEnabled()) {
+                draw(grid, new HashSet<>());
+            }
             System.out.println("[Part 2] Forklift removable rolls: " + removed);
         }
     }
@@ -76,16 +79,17 @@ public class Puzzle4 implements Puzzle {
                 .collect(Collectors.toSet());
     }
 
-    private static void draw(Set<Point> points, Set<Point> accessible) {
+    private void draw(Set<Point> points, Set<Point> accessible) {
         final IntSummaryStatistics xStats = points.stream().mapToInt(Point::getX).summaryStatistics();
         final IntSummaryStatistics yStats = points.stream().mapToInt(Point::getY).summaryStatistics();
+        StringBuilder frame = new StringBuilder();
         for (int y = yStats.getMin(); y <= yStats.getMax(); y++) {
             for (int x = xStats.getMin(); x <= xStats.getMax(); x++) {
                 Point p = new Point(x, y);
-                System.out.printf("%s", accessible.contains(p) ? "x" : points.contains(p) ? "@" : ".");
+                frame.append(accessible.contains(p) ? "x" : points.contains(p) ? "@" : ".");
             }
-            System.out.printf("%n");
+            frame.append(System.lineSeparator());
         }
-        System.out.printf("%n");
+        trace.println(frame.toString());
     }
 }
@@ -1,7 +1,7 @@
 package com.github.jonnu.advent.puzzle.y2025;
 
 import com.github.jonnu.advent.common.ResourceReader;
-import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
 import lombok.AllArgsConstructor;
 import lombok.SneakyThrows;
 
@@ -13,13 +13,13 @@ import java.util.Comparator;
 import java.util.List;
 
 @AllArgsConstructor(onConstructor = @__(@Inject))
-public class Puzzle5 implements Puzzle {
+public class Puzzle5 implements PhasedPuzzle<Puzzle5.Inventory, Integer, BigInteger> {
 
     private final ResourceReader resourceReader;
 
     @Override
     @SneakyThrows
-    public void solve() {
+    public Inventory parse() {
         try (BufferedReader reader = resourceReader.read("y2025/puzzle5.txt")) {
 
             InputMode inputMode = InputMode.FRESH_RANGE;
@@ -40,26 +40,41 @@ public class Puzzle5 implements Puzzle {
                 line = reader.readLine();
             }
 
-            int fresh = 0;
-            for (BigInteger ingredient : ingredients) {
-                for (Pair<BigInteger> range : ranges) {
-                    if (range.inRange(ingredient)) {
-                        fresh++;
-                        break;
-                    }
-                }
-            }
+            return new Inventory(List.copyOf(ranges), List.copyOf(ingredients));
+        }
+    }
+
+    @Override
+    public boolean hasIndependentParts() {
+        return true;
+    }
 
-            List<Pair<BigInteger>> simplified = simplify(ranges);
-            BigInteger count = BigInteger.ZERO;
-            for (Pair<BigInteger> range : simplified) {
-                // the +1 is necessary to make the range inclusive.
-                count = count.add(range.right().subtract(range.left())).add(BigInteger.ONE);
+    @Override
+    public Integer partOne(final Inventory inventory) {
+        int fresh = 0;
+        for (BigInteger ingredient : inventory.ingredients()) {
+            for (Pair<BigInteger> range : inventory.ranges()) {
+                if (range.inRange(ingredient)) {
+                    fresh++;
+                    break;
+                }
             }
+        }
+        return fresh;
+    }
 
-            System.out.println("[Part 1] Fresh ingredients available: " + fresh);
-            System.out.println("[Part 2] Number of possible fresh ingredients: " + count);
+    @Override
+    public BigInteger partTwo(final Inventory inventory) {
+        List<Pair<BigInteger>> simplified = simplify(new ArrayList<>(inventory.ranges()));
+        BigInteger count = BigInteger.ZERO;
+        for (Pair<BigInteger> range : simplified) {
+            // the +1 is necessary to make the range inclusive.
+            count = count.add(range.right().subtract(range.left())).add(BigInteger.ONE);
         }
+        return count;
+    }
+
+    record Inventory(List<Pair<BigInteger>> ranges, List<BigInteger> ingredients) {
     }
 
     enum InputMode {
@@ -0,0 +1,42 @@
+package com.github.jonnu.advent.puzzle.y2025;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
+import com.github.jonnu.advent.puzzle.Puzzle;
+
+/**
+ * The 2025 puzzles, constructed directly rather than through the injector. See {@code PuzzleRegistry}.
+ */
+public final class Puzzles {
+
+    private static final int[] DAYS = { 1, 2, 3, 4, 5 };
+
+    private Puzzles() {
+    }
+
+    public static int[] days() {
+        return DAYS.clone();
+    }
+
+    public static Class<? extends Puzzle> type(final int day) {
+        return switch (day) {
+            case 1 -> Puzzle1.class;
+            case 2 -> Puzzle2.class;
+            case 3 -> Puzzle3.class;
+            case 4 -> Puzzle4.class;
+            case 5 -> Puzzle5.class;
+            default -> throw new IllegalArgumentException("Unknown puzzle: 2025/" + day);
+        };
+    }
+
+    public static Puzzle create(final int day, final ResourceReader resourceReader, final Trace trace) {
+        return switch (day) {
+            case 1 -> new Puzzle1(resourceReader);
+            case 2 -> new Puzzle2(resourceReader);
+            case 3 -> new Puzzle3(resourceReader);
+            case 4 -> new Puzzle4(resourceReader, trace);
+            case 5 -> new Puzzle5(resourceReader);
+            default -> throw new IllegalArgumentException("Unknown puzzle: 2025/" + day);
+        };
+    }
+}
@@ -1,23 +1,104 @@
 package com.github.jonnu.advent.runner;
 
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.github.jonnu.advent.common.BufferedResourceReader;
+import com.github.jonnu.advent.common.BufferedTrace;
+import com.github.jonnu.advent.common.CachingResourceReader;
+import com.github.jonnu.advent.common.DirectoryResourceReader;
+import com.github.jonnu.advent.common.MappedResourceReader;
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
 import com.github.jonnu.advent.inject.AdventModule;
-import com.github.jonnu.advent.puzzle.Puzzle;
-import com.github.jonnu.advent.puzzle.y2025.*;
-import com.google.common.base.Stopwatch;
+import com.github.jonnu.advent.runner.jfr.FlightRecording;
 import com.google.inject.Guice;
-import com.google.inject.Injector;
+import lombok.SneakyThrows;
 
 public class AdventRunner {
+    @SneakyThrows
     public static void main(final String[] args) {
-        Injector injector = Guice.createInjector(new AdventModule());
-        Puzzle puzzle = injector.getInstance(Puzzle5.class);
-        solve(puzzle);
+        StartupClock.mark();
+        RunnerOptions options = RunnerOptions.parse(args);
+        Trace trace = options.isTracing() ? new BufferedTrace() : Trace.QUIET;
+        PuzzleFactory puzzles = puzzles(options, trace);
+        PuzzleLocator locator = options.getWiring() == RunnerOptions.Wiring.REGISTRY ? new RegistryPuzzleLocator() : new ClassPathPuzzleLocator();
+        PuzzleExecutor executor = new PuzzleExecutor(puzzles, options, cache(puzzles, options));
+
+        if (options.getJfr() == null) {
+            run(options, puzzles, locator, executor);
+            return;
+        }
+
+        try (FlightRecording ignored = FlightRecording.start(options.getJfr())) {
+            run(options, puzzles, locator, executor);
+        }
+    }
+
+    // the registry path never touches Guice (or the classpath scan), so none of it is loaded.
+    private static PuzzleFactory puzzles(final RunnerOptions options, final Trace trace) {
+        ResourceReader resourceReader = resourceReader(options);
+        if (options.getWiring() == RunnerOptions.Wiring.GUICE) {
+            return new InjectorPuzzleFactory(Guice.createInjector(new AdventModule(resourceReader, trace)));
+        }
+        return new RegistryPuzzleFactory(resourceReader, trace);
+    }
+
+    // mapped inputs are already in memory (and may be too large to copy), and the daemon re-solves precisely because
+    // an input changed on disk, so neither goes through the input cache.
+    private static ResourceReader resourceReader(final RunnerOptions options) {
+        if (options.getInputs() != null && options.isMapped()) {
+            return new MappedResourceReader(options.getInputs(), options.isInflateAhead());
+        }
+        ResourceReader resourceReader = options.getInputs() == null
+                ? new BufferedResourceReader()
+                : new DirectoryResourceReader(options.getInputs(), options.isInflateAhead());
+        if (options.inputCacheBytes() == 0 || options.getMode() == RunnerOptions.Mode.DAEMON) {
+            return resourceReader;
+        }
+        return new CachingResourceReader(resourceReader, options.inputCacheBytes());
+    }
+
+    private static void run(final RunnerOptions options, final PuzzleFactory puzzles, final PuzzleLocator locator, final PuzzleExecutor executor) {
+        switch (options.getMode()) {
+            case SOLVE -> new SolveRunner(executor, options)
+                    .run(select(locator, options, () -> List.of(locator.latest())));
+            case BATCH -> new BatchRunner(executor, options)
+                    .run(select(locator, options, locator::locate));
+            case BENCHMARK -> new BenchmarkRunner(executor, options)
+                    .run(select(locator, options, () -> List.of(locator.latest())));
+            case FORK -> new ForkRunner(options)
+                    .run(select(locator, options, locator::locate));
+            case GC_MATRIX -> new GcMatrixRunner(new ForkRunner(options), options)
+                    .run(select(locator, options, locator::locate));
+            case SERVICE -> new ServiceRunner(options)
+                    .run(select(locator, options, locator::locate));
+            case LOAD -> new LoadGenerator(puzzles.resourceReader(), options)
+                    .run(select(locator, options, () -> List.of(locator.latest())));
+            case THROUGHPUT -> new ThroughputRunner(options)
+                    .run(select(locator, options, () -> List.of(locator.latest())).get(0));
+            case STRESS -> new StressRunner(executor, options)
+                    .run(select(locator, options, locator::locate));
+            case CDS_TRAIN -> new ClassDataSharingTrainer(options)
+                    .run(select(locator, options, locator::locate));
+            case STARTUP -> new StartupRunner(new ForkRunner(options), options)
+                    .run(select(locator, options, () -> List.of(locator.latest())));
+            case CHILD -> select(locator, options, List::of)
+                    .forEach(reference -> ForkRunner.report(executor.execute(reference)));
+            case DAEMON -> new DaemonRunner(new SolveRunner(executor, options), locator, options)
+                    .run(select(locator, options, List::of));
+        }
+    }
+
+    private static AnswerCache cache(final PuzzleFactory puzzles, final RunnerOptions options) {
+        if (!options.isCache() || options.getMode() == RunnerOptions.Mode.BENCHMARK || options.getMode() == RunnerOptions.Mode.STRESS) {
+            return AnswerCache.disabled();
+        }
+        return new AnswerCache(puzzles.resourceReader(), options.getCacheDirectory(), options.getCacheSize(), true);
     }
 
-    private static void solve(final Puzzle puzzle) {
-        System.out.printf("Puzzle: %s%n%n", puzzle.getClass().getCanonicalName());
-        Stopwatch watch = Stopwatch.createStarted();
-        puzzle.solve();
-        System.out.printf("%nTime taken: %s%n", watch.stop());
+    // the fallback is only resolved without selectors: finding the latest puzzle loads its class.
+    private static List<PuzzleReference> select(final PuzzleLocator locator, final RunnerOptions options, final Supplier<List<PuzzleReference>> fallback) {
+        return options.getSelectors().isEmpty() ? fallback.get() : locator.locate(options.getSelectors());
     }
 }
@@ -0,0 +1,169 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * On-disk store of puzzle answers, addressed by a hash of everything that determines them: the puzzle's input (as read
+ * through the {@link ResourceReader}, streamed rather than held), the bytecode of the puzzle class and every class
+ * nested in it, which parts were run and a format version. Any change to the input or a recompiled puzzle therefore
+ * misses. Entries are evicted least recently used first once the store grows beyond its size bound. Changes to shared
+ * code outside the puzzle, such as {@code common}, are not detected; bypass the cache (or bump {@link #VERSION}) after
+ * those.
+ */
+@AllArgsConstructor
+public class AnswerCache {
+
+    private static final int VERSION = 3;
+    private static final int BUFFER_SIZE = 64 * 1_024;
+    private static final String EXTENSION = ".properties";
+
+    private final ResourceReader resourceReader;
+    private final Path directory;
+    private final long maximumBytes;
+    private final boolean enabled;
+
+    public static AnswerCache disabled() {
+        return new AnswerCache(null, null, 0, false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String key(final PuzzleReference reference, final RunnerOptions.Part part) {
+        Hasher hasher = Hashing.sha256().newHasher()
+                .putInt(VERSION)
+                .putString(part.name(), StandardCharsets.UTF_8);
+
+        // the nest is the puzzle class and every class nested in it, where most puzzles keep their logic.
+        Class<?>[] nest = reference.type().getNestMembers();
+        Arrays.sort(nest, Comparator.comparing(Class::getName));
+        for (Class<?> member : nest) {
+            hasher.putString(member.getName(), StandardCharsets.UTF_8).putBytes(bytecode(member));
+        }
+
+        // streamed a buffer at a time, so that neither huge nor compressed inputs have to fit on the heap at once.
+        char[] buffer = new char[BUFFER_SIZE];
+        try (BufferedReader reader = resourceReader.read(reference.resource())) {
+            for (int read = reader.read(buffer); read != -1; read = reader.read(buffer)) {
+                hasher.putUnencodedChars(CharBuffer.wrap(buffer, 0, read));
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to hash input of " + reference, e);
+        }
+        return hasher.hash().toString();
+    }
+
+    @SneakyThrows
+    public Optional<List<PhaseResult>> get(final String key) {
+        Path entry = directory.resolve(key + EXTENSION);
+        if (!Files.isReadable(entry)) {
+            return Optional.empty();
+        }
+
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(entry, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+            Files.setLastModifiedTime(entry, FileTime.from(Instant.now()));
+        } catch (NoSuchFileException e) {
+            // evicted since it was found.
+            return Optional.empty();
+        }
+
+        List<PhaseResult> phases = new ArrayList<>();
+        for (Phase phase : Phase.values()) {
+            Optional.ofNullable(properties.getProperty(phase.name()))
+                    .map(answer -> new PhaseResult(phase, Duration.ZERO, Duration.ZERO, 0, 0, Duration.ZERO, answer, false))
+                    .ifPresent(phases::add);
+        }
+        return Optional.of(phases);
+    }
+
+    @SneakyThrows
+    public void put(final String key, final PuzzleResult result) {
+        Properties properties = new Properties();
+        result.phases()
+                .stream()
+                .filter(phase -> phase.answer() != null)
+                .forEach(phase -> properties.setProperty(phase.phase().name(), String.valueOf(phase.answer())));
+
+        Files.createDirectories(directory);
+        try (Writer writer = Files.newBufferedWriter(directory.resolve(key + EXTENSION), StandardCharsets.UTF_8)) {
+            properties.store(writer, result.reference().toString());
+        }
+        evict();
+    }
+
+    /**
+     * Deletes the least recently used entries until the store fits its bound again. Other threads, and other runs sharing
+     * the directory, evict concurrently, so an entry that disappears between listing and deleting counts as evicted.
+     */
+    private synchronized void evict() throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.list(directory)) {
+            paths = files.filter(path -> path.toString().endsWith(EXTENSION)).toList();
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (Path path : paths) {
+            entry(path).ifPresent(entries::add);
+        }
+        entries.sort(Comparator.comparing(Entry::lastModified));
+
+        long total = entries.stream().mapToLong(Entry::size).sum();
+        for (Entry entry : entries) {
+            if (total <= maximumBytes) {
+                break;
+            }
+            total -= entry.size();
+            Files.deleteIfExists(entry.path());
+        }
+    }
+
+    private static Optional<Entry> entry(final Path path) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new Entry(path, attributes.size(), attributes.lastModifiedTime()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record Entry(Path path, long size, FileTime lastModified) {
+    }
+
+    private static byte[] bytecode(final Class<?> type) {
+        String resource = type.getName().replace('.', '/') + ".class";
+        try (InputStream stream = type.getClassLoader().getResourceAsStream(resource)) {
+            return stream == null ? new byte[0] : ByteStreams.toByteArray(stream);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read bytecode of " + type.getName(), e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Runs a set of puzzles inside the current JVM on a bounded pool, then prints their timings.
+ * A single thread runs the puzzles one after another; more threads run them concurrently.
+ */
+@AllArgsConstructor
+public class BatchRunner {
+
+    private final PuzzleExecutor executor;
+    private final RunnerOptions options;
+
+    @SneakyThrows
+    public List<PuzzleResult> run(final List<PuzzleReference> references) {
+
+        List<Callable<PuzzleResult>> tasks = references.stream()
+                .<Callable<PuzzleResult>>map(reference -> () -> executor.execute(reference))
+                .toList();
+
+        List<PuzzleResult> results = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(options.getThreads())) {
+            for (Future<PuzzleResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        }
+
+        if (options.getOutput() != RunnerOptions.Output.TEXT) {
+            System.out.print(ResultDocument.render(options.getOutput(), results));
+            return results;
+        }
+
+        for (PuzzleResult result : results) {
+            System.out.printf("%n== %s ==%n", result.reference());
+            result.phases()
+                    .stream()
+                    .filter(phase -> phase.answer() != null)
+                    .forEach(phase -> System.out.print(SolveRunner.format(phase)));
+        }
+
+        System.out.println();
+        new TimingTable(options.getSort()).print(results, System.out);
+        return results;
+    }
+}
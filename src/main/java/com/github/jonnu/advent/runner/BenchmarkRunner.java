@@ -0,0 +1,77 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Runs each puzzle repeatedly to separate the cold (class loading, interpreter) run from JIT-warmed steady state.
+ * The first run is reported on its own, followed by the warmup iterations (discarded) and the measured iterations.
+ */
+@AllArgsConstructor
+public class BenchmarkRunner {
+
+    private static final String HEADER = String.format("%-6s %4s %12s %12s %12s %12s %12s %12s %12s",
+            "Year", "Day", "Cold (ms)", "Min (ms)", "Median (ms)", "p90 (ms)", "p99 (ms)", "Max (ms)", "Warm gain");
+    private static final String ROW = "%-6d %4d %12.3f %12.3f %12.3f %12.3f %12.3f %12.3f %11.1fx%n";
+
+    private final PuzzleExecutor executor;
+    private final RunnerOptions options;
+
+    public List<LatencySummary> run(final List<PuzzleReference> references) {
+
+        List<LatencySummary> summaries = new ArrayList<>();
+        for (PuzzleReference reference : references) {
+            summaries.add(benchmark(reference));
+        }
+
+        System.out.printf("%nWarmup iterations: %d, measured iterations: %d%n", options.getWarmup(), options.getIterations());
+        print(references, summaries, System.out);
+        return summaries;
+    }
+
+    private LatencySummary benchmark(final PuzzleReference reference) {
+
+        Duration cold = measure(reference);
+        for (int i = 0; i < options.getWarmup(); i++) {
+            measure(reference);
+        }
+
+        List<Duration> measured = new ArrayList<>(options.getIterations());
+        for (int i = 0; i < options.getIterations(); i++) {
+            measured.add(measure(reference));
+        }
+
+        return LatencySummary.of(cold, measured);
+    }
+
+    private Duration measure(final PuzzleReference reference) {
+        PuzzleResult result = executor.execute(reference);
+        if (!result.isSolved()) {
+            throw new IllegalStateException("Puzzle " + reference + " did not solve: " + result.detail());
+        }
+        return result.wall();
+    }
+
+    private static void print(final List<PuzzleReference> references, final List<LatencySummary> summaries, final PrintStream out) {
+        out.println(HEADER);
+        out.println("-".repeat(HEADER.length()));
+        for (int i = 0; i < references.size(); i++) {
+            PuzzleReference reference = references.get(i);
+            LatencySummary summary = summaries.get(i);
+            out.printf(ROW,
+                    reference.year(),
+                    reference.day(),
+                    TimingTable.millis(summary.cold()),
+                    TimingTable.millis(summary.min()),
+                    TimingTable.millis(summary.median()),
+                    TimingTable.millis(summary.p90()),
+                    TimingTable.millis(summary.p99()),
+                    TimingTable.millis(summary.max()),
+                    TimingTable.millis(summary.cold()) / Math.max(TimingTable.millis(summary.median()), 0.001d));
+        }
+    }
+}
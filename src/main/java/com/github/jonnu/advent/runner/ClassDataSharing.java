@@ -0,0 +1,58 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import lombok.SneakyThrows;
+
+/**
+ * JVM arguments for dumping and mapping a dynamic AppCDS archive of every class a run loads. The JVM validates an
+ * archive against the class path it was dumped with and quietly ignores it when they differ (after a rebuild, say),
+ * so using one is always safe; at worst the child starts as it would have without.
+ */
+final class ClassDataSharing {
+
+    private ClassDataSharing() {
+    }
+
+    /**
+     * The archive later runs should map, if sharing is enabled and a training run has written one.
+     */
+    static Optional<Path> archive(final RunnerOptions options) {
+        if (!options.isCds() || !Files.isRegularFile(options.getCdsArchive())) {
+            return Optional.empty();
+        }
+        return Optional.of(options.getCdsArchive());
+    }
+
+    static List<String> training(final Path archive) {
+        return List.of("-XX:ArchiveClassesAtExit=" + archive.toAbsolutePath());
+    }
+
+    static List<String> sharing(final Path archive) {
+        return List.of("-XX:SharedArchiveFile=" + archive.toAbsolutePath(), "-Xshare:auto");
+    }
+
+    /**
+     * Only classes loaded from jars are archived; a class path with directories of classes on it (as an IDE or
+     * {@code build/classes} gives) would leave every puzzle out.
+     */
+    @SneakyThrows
+    static void requireJars(final String classPath) {
+        for (String entry : classPath.split(File.pathSeparator)) {
+            Path path = Path.of(entry);
+            if (!Files.isDirectory(path)) {
+                continue;
+            }
+            try (Stream<Path> children = Files.list(path)) {
+                if (children.findAny().isPresent()) {
+                    throw new IllegalStateException("Class data sharing only archives classes from jars, but the class path has directory " + entry);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.jonnu.advent.runner;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * The training run: solves the suite (or the selected puzzles) in a child JVM that dumps every class it loaded on the
+ * way, Guice, Guava and the puzzles included, into the archive at {@code --cds-archive} when it exits. Later runs map
+ * that archive instead of loading and verifying those classes one by one.
+ */
+@AllArgsConstructor
+public class ClassDataSharingTrainer {
+
+    private final RunnerOptions options;
+
+    @SneakyThrows
+    public Path run(final List<PuzzleReference> references) {
+        String classPath = System.getProperty("java.class.path");
+        ClassDataSharing.requireJars(classPath);
+
+        Path archive = options.getCdsArchive();
+        Files.createDirectories(archive.toAbsolutePath().getParent());
+        Files.deleteIfExists(archive);
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(ClassDataSharing.training(archive));
+        command.addAll(List.of(
+                "-cp", classPath,
+                AdventRunner.class.getName(),
+                "--mode=batch",
+                "--no-cache",
+                "--quiet",
+                "--wiring=" + options.getWiring().name().toLowerCase()));
+        if (options.getInputs() != null) {
+            command.add("--inputs=" + options.getInputs().toAbsolutePath());
+        }
+        if (options.isMapped()) {
+            command.add("--mapped");
+        }
+        if (options.isInflateAhead()) {
+            command.add("--inflate-ahead");
+        }
+        references.forEach(reference -> command.add(reference.toString()));
+
+        System.out.printf("Training class data sharing archive on %d puzzles%n", references.size());
+        long start = System.nanoTime();
+        int exitCode = new ProcessBuilder(command)
+                .inheritIO()
+                .start()
+                .waitFor();
+        if (exitCode != 0 || !Files.isRegularFile(archive)) {
+            throw new IllegalStateException("Training run exited with " + exitCode + " without writing " + archive);
+        }
+
+        System.out.printf("%nWrote %s (%s) in %.1f s; later runs will map it automatically%n",
+                archive, TimingTable.bytes(Files.size(archive)), (System.nanoTime() - start) / 1_000_000_000d);
+        return archive;
+    }
+}
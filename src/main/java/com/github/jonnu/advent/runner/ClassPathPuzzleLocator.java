@@ -0,0 +1,50 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.jonnu.advent.puzzle.Puzzle;
+import com.google.common.reflect.ClassPath;
+import lombok.SneakyThrows;
+
+/**
+ * Finds every {@link Puzzle} implementation living under {@code com.github.jonnu.advent.puzzle.y20xx} by scanning the
+ * classpath, which loads every puzzle class along the way.
+ */
+public class ClassPathPuzzleLocator implements PuzzleLocator {
+
+    private static final String PUZZLE_PACKAGE = "com.github.jonnu.advent.puzzle";
+    private static final Pattern PUZZLE_CLASS = Pattern.compile("^" + Pattern.quote(PUZZLE_PACKAGE) + "\\.y(?<year>\\d{4})\\.Puzzle(?<day>\\d+)$");
+
+    @Override
+    @SneakyThrows
+    public List<PuzzleReference> locate() {
+        ClassLoader classloader = Thread.currentThread().getContextClassLoader();
+        return ClassPath.from(classloader)
+                .getTopLevelClassesRecursive(PUZZLE_PACKAGE)
+                .stream()
+                .map(this::toReference)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    private Optional<PuzzleReference> toReference(final ClassPath.ClassInfo info) {
+        Matcher matcher = PUZZLE_CLASS.matcher(info.getName());
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+
+        Class<?> type = info.load();
+        if (!Puzzle.class.isAssignableFrom(type)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new PuzzleReference(
+                Integer.parseInt(matcher.group("year")),
+                Integer.parseInt(matcher.group("day")),
+                type.asSubclass(Puzzle.class)));
+    }
+}
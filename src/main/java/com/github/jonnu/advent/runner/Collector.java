@@ -0,0 +1,26 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Garbage collectors a forked puzzle JVM can be started with.
+ */
+@Getter
+@AllArgsConstructor
+public enum Collector {
+
+    G1(List.of("-XX:+UseG1GC")),
+    PARALLEL(List.of("-XX:+UseParallelGC")),
+    SERIAL(List.of("-XX:+UseSerialGC")),
+    Z(List.of("-XX:+UseZGC")),
+    EPSILON(List.of("-XX:+UnlockExperimentalVMOptions", "-XX:+UseEpsilonGC"));
+
+    private final List<String> jvmArguments;
+
+    public static Collector fromString(final String string) {
+        return valueOf(string.toUpperCase());
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Captures what a legacy puzzle prints to {@code System.out}, so that its output can be treated as its answer.
+ * {@code System.out} is replaced (once) by a stream which writes to a buffer belonging to the capturing thread, or
+ * straight through to the real console for every other thread, so concurrently running puzzles do not interleave.
+ */
+final class ConsoleCapture {
+
+    private static final PrintStream CONSOLE = System.out;
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER = new ThreadLocal<>();
+
+    static {
+        System.setOut(new PrintStream(new RoutingOutputStream(), true));
+    }
+
+    private ConsoleCapture() {
+    }
+
+    static String capture(final Runnable runnable) {
+        ByteArrayOutputStream previous = BUFFER.get();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        BUFFER.set(buffer);
+        try {
+            runnable.run();
+            System.out.flush();
+            return buffer.toString();
+        } finally {
+            BUFFER.set(previous);
+        }
+    }
+
+    private static class RoutingOutputStream extends OutputStream {
+
+        @Override
+        public void write(final int b) throws IOException {
+            target().write(b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            target().write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target().flush();
+        }
+
+        private static OutputStream target() {
+            ByteArrayOutputStream buffer = BUFFER.get();
+            return buffer != null ? buffer : CONSOLE;
+        }
+    }
+}
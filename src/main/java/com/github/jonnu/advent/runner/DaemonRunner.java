@@ -0,0 +1,104 @@
+package com.github.jonnu.advent.runner;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.jonnu.advent.common.Compression;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Keeps the injector and JIT-compiled puzzle classes alive, re-solving a puzzle whenever its input file changes.
+ * Inputs are watched under {@code <inputs>/yXXXX/puzzleN.txt}, compressed copies ({@code puzzleN.txt.gz} and so on)
+ * included; editors tend to write a file in several steps, so changes are gathered until the directory has been quiet
+ * for a moment and each affected puzzle is solved once.
+ */
+@AllArgsConstructor
+public class DaemonRunner {
+
+    // plain or compressed, as the input readers take either.
+    private static final Pattern INPUT = Pattern.compile("^y(?<year>\\d{4})/puzzle(?<day>\\d+)\\.txt(" + Arrays.stream(Compression.values())
+            .map(compression -> Pattern.quote(compression.getExtension()))
+            .collect(Collectors.joining("|")) + ")$");
+    private static final Duration SETTLE = Duration.ofMillis(100);
+
+    private final SolveRunner solver;
+    private final PuzzleLocator locator;
+    private final RunnerOptions options;
+
+    @SneakyThrows
+    public void run(final List<PuzzleReference> warmup) {
+
+        Path root = options.getInputs();
+        List<PuzzleReference> puzzles = locator.locate();
+        solver.run(warmup);
+
+        try (WatchService watcher = root.getFileSystem().newWatchService()) {
+            register(root, watcher);
+            try (Stream<Path> years = Files.list(root)) {
+                years.filter(Files::isDirectory).forEach(directory -> register(directory, watcher));
+            }
+
+            System.out.printf("%nWatching %s for input changes...%n", root.toAbsolutePath());
+            while (!Thread.currentThread().isInterrupted()) {
+                Set<PuzzleReference> changed = new TreeSet<>();
+                WatchKey key = watcher.take();
+                while (key != null) {
+                    collect(root, key, watcher, puzzles, changed);
+                    key = watcher.poll(SETTLE.toMillis(), TimeUnit.MILLISECONDS);
+                }
+
+                for (PuzzleReference reference : changed) {
+                    System.out.println();
+                    solver.solve(reference);
+                }
+            }
+        }
+    }
+
+    private void collect(final Path root, final WatchKey key, final WatchService watcher, final List<PuzzleReference> puzzles, final Set<PuzzleReference> changed) {
+        Path directory = (Path) key.watchable();
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                continue;
+            }
+
+            Path path = directory.resolve((Path) event.context());
+            if (Files.isDirectory(path)) {
+                register(path, watcher);
+                continue;
+            }
+
+            Matcher matcher = INPUT.matcher(root.relativize(path).toString().replace('\\', '/'));
+            if (matcher.matches()) {
+                String selector = matcher.group("year") + "/" + matcher.group("day");
+                puzzles.stream()
+                        .filter(reference -> reference.matches(selector))
+                        .forEach(changed::add);
+            }
+        }
+        key.reset();
+    }
+
+    @SneakyThrows
+    private static void register(final Path directory, final WatchService watcher) {
+        directory.register(watcher, ENTRY_CREATE, ENTRY_MODIFY);
+    }
+}
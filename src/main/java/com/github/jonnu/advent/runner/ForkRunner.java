@@ -0,0 +1,184 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.BufferedReader;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Runs every puzzle in a child JVM of its own, with its own heap cap and collector, so the memory each one really needs
+ * can be seen in isolation. The child solves a single puzzle in {@code child} mode and reports its phased timings back
+ * as one line on stdout, together with its peak resident set size read from {@code /proc/<pid>/status}. Children map
+ * the class data sharing archive of a training run, when there is one.
+ */
+@AllArgsConstructor
+public class ForkRunner {
+
+    private static final String REPORT = "@@advent";
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String PHASE_SEPARATOR = ";";
+    private static final String VALUE_SEPARATOR = ",";
+    private static final String HEADER = String.format("%-6s %4s %-9s %10s %10s %10s %5s  %s",
+            "Year", "Day", "GC", "Heap cap", "Peak heap", "Peak RSS", "Exit", "Status");
+    private static final String ROW = "%-6d %4d %-9s %10s %10s %10s %5d  %s%n";
+
+    private final RunnerOptions options;
+
+    public List<ForkedResult> run(final List<PuzzleReference> references) {
+        List<ForkedResult> results = new ArrayList<>();
+        for (PuzzleReference reference : references) {
+            results.add(fork(reference, options.getCollector(), options.getHeap()));
+        }
+
+        System.out.println();
+        new TimingTable(options.getSort()).print(results.stream().map(ForkedResult::result).toList(), System.out);
+        System.out.println();
+        print(results, System.out);
+        return results;
+    }
+
+    public ForkedResult fork(final PuzzleReference reference, final Collector collector, final String heap) {
+        return fork(reference, collector, heap, ClassDataSharing.archive(options).orElse(null));
+    }
+
+    /**
+     * Forks with the given class data sharing archive, or with none at all (beyond the JDK's own) when null.
+     */
+    @SneakyThrows
+    public ForkedResult fork(final PuzzleReference reference, final Collector collector, final String heap, final Path archive) {
+        long launched = System.nanoTime();
+        Process process = new ProcessBuilder(command(reference, collector, heap, archive))
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+
+        String report = null;
+        long reported = launched;
+        try (BufferedReader reader = process.inputReader()) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.startsWith(REPORT + FIELD_SEPARATOR)) {
+                    report = line;
+                    reported = System.nanoTime();
+                }
+            }
+        }
+
+        int exitCode = process.waitFor();
+        Duration untilReport = Duration.ofNanos(reported - launched);
+        return Optional.ofNullable(report)
+                .map(line -> decode(reference, line, collector, heap, exitCode, untilReport))
+                .orElseGet(() -> new ForkedResult(
+                        PuzzleResult.failed(reference, List.of(), 0, new IllegalStateException("child exited with " + exitCode + " before reporting")),
+                        collector,
+                        heap,
+                        -1,
+                        exitCode,
+                        untilReport));
+    }
+
+    /**
+     * Reports a result from inside the child JVM, in the form {@link #fork} expects to read back.
+     */
+    public static void report(final PuzzleResult result) {
+        String phases = result.phases()
+                .stream()
+                .map(phase -> String.join(VALUE_SEPARATOR,
+                        phase.phase().name(),
+                        String.valueOf(phase.wall().toNanos()),
+                        String.valueOf(phase.cpu().toNanos()),
+                        String.valueOf(phase.allocatedBytes()),
+                        String.valueOf(phase.gcCount()),
+                        String.valueOf(phase.gcPause().toMillis()),
+                        String.valueOf(phase.concurrent())))
+                .collect(Collectors.joining(PHASE_SEPARATOR));
+
+        System.out.println(String.join(FIELD_SEPARATOR,
+                REPORT,
+                result.status().name(),
+                String.valueOf(result.peakHeapBytes()),
+                String.valueOf(ResourceUsage.peakRss(ProcessHandle.current().pid())),
+                phases,
+                result.detail().replaceAll("\\s+", " ")));
+    }
+
+    private List<String> command(final PuzzleReference reference, final Collector collector, final String heap, final Path archive) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        if (archive != null) {
+            command.addAll(ClassDataSharing.sharing(archive));
+        }
+        if (heap != null) {
+            command.add("-Xmx" + heap);
+        }
+        if (collector != null) {
+            command.addAll(collector.getJvmArguments());
+        }
+        command.addAll(List.of(
+                "-cp", System.getProperty("java.class.path"),
+                AdventRunner.class.getName(),
+                "--mode=child",
+                "--no-cache",
+                "--part=" + options.getPart().name().toLowerCase()));
+        if (options.getTimeout() != null) {
+            command.add("--timeout=" + options.getTimeout().toMillis() + "ms");
+        }
+        if (options.getInputs() != null) {
+            command.add("--inputs=" + options.getInputs().toAbsolutePath());
+        }
+        if (options.isMapped()) {
+            command.add("--mapped");
+        }
+        if (options.isInflateAhead()) {
+            command.add("--inflate-ahead");
+        }
+        if (options.getWiring() != RunnerOptions.Wiring.GUICE) {
+            command.add("--wiring=" + options.getWiring().name().toLowerCase());
+        }
+        if (options.isConcurrentParts()) {
+            command.add("--concurrent-parts");
+        }
+        command.add(reference.toString());
+        return command;
+    }
+
+    private static ForkedResult decode(final PuzzleReference reference, final String line, final Collector collector, final String heap, final int exitCode, final Duration reported) {
+        String[] fields = line.split(FIELD_SEPARATOR, -1);
+        List<PhaseResult> phases = Arrays.stream(fields[4].split(PHASE_SEPARATOR))
+                .filter(phase -> !phase.isEmpty())
+                .map(phase -> phase.split(VALUE_SEPARATOR))
+                .map(values -> new PhaseResult(
+                        Phase.valueOf(values[0]),
+                        Duration.ofNanos(Long.parseLong(values[1])),
+                        Duration.ofNanos(Long.parseLong(values[2])),
+                        Long.parseLong(values[3]),
+                        Long.parseLong(values[4]),
+                        Duration.ofMillis(Long.parseLong(values[5])),
+                        null,
+                        Boolean.parseBoolean(values[6])))
+                .toList();
+
+        PuzzleResult result = new PuzzleResult(reference, PuzzleResult.Status.valueOf(fields[1]), phases, Long.parseLong(fields[2]), fields[5], PoolStats.NONE);
+        return new ForkedResult(result, collector, heap, Long.parseLong(fields[3]), exitCode, reported);
+    }
+
+    private static void print(final List<ForkedResult> results, final PrintStream out) {
+        out.println(HEADER);
+        out.println("-".repeat(HEADER.length()));
+        results.forEach(forked -> out.printf(ROW,
+                forked.result().reference().year(),
+                forked.result().reference().day(),
+                forked.collector() == null ? "default" : forked.collector().name().toLowerCase(),
+                forked.heap() == null ? "default" : forked.heap(),
+                TimingTable.bytes(forked.result().peakHeapBytes()),
+                forked.peakRssBytes() < 0 ? "-" : TimingTable.bytes(forked.peakRssBytes()),
+                forked.exitCode(),
+                forked.result().status()));
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.jonnu.advent.runner;
+
+import java.time.Duration;
+
+/**
+ * The result a forked puzzle JVM reported, along with how it was started and the most memory it was resident in.
+ *
+ * @param collector   the collector the child ran with, or null for the JVM default
+ * @param heap        the child's {@code -Xmx}, or null for the JVM default
+ * @param peakRssBytes peak resident set size of the child; -1 where it could not be read
+ * @param reported     time from launching the child to reading its report, i.e. startup to first answer
+ */
+public record ForkedResult(PuzzleResult result, Collector collector, String heap, long peakRssBytes, int exitCode, Duration reported) {
+}
@@ -0,0 +1,81 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Runs the suite once per collector, each puzzle in a forked JVM, and tabulates wall time and the share of it spent in
+ * stop-the-world collection pauses per puzzle per collector; concurrent collection work is not counted, as the
+ * puzzle keeps running alongside it. Every child gets the same heap cap, which for Epsilon
+ * doubles as an allocation budget: a puzzle that allocates more than the cap fails rather than collecting.
+ */
+@AllArgsConstructor
+public class GcMatrixRunner {
+
+    private static final String DEFAULT_HEAP = "1g";
+    private static final String CELL = "%20s";
+
+    private final ForkRunner forkRunner;
+    private final RunnerOptions options;
+
+    public Map<PuzzleReference, List<ForkedResult>> run(final List<PuzzleReference> references) {
+        String heap = options.getHeap() == null ? DEFAULT_HEAP : options.getHeap();
+
+        Map<PuzzleReference, List<ForkedResult>> matrix = new LinkedHashMap<>();
+        for (PuzzleReference reference : references) {
+            List<ForkedResult> row = new ArrayList<>();
+            for (Collector collector : options.getCollectors()) {
+                System.out.printf("Running %s with %s (-Xmx%s)%n", reference, collector.name().toLowerCase(), heap);
+                row.add(forkRunner.fork(reference, collector, heap));
+            }
+            matrix.put(reference, row);
+        }
+
+        System.out.printf("%nWall time and share of it in gc pauses per collector (-Xmx%s)%n", heap);
+        print(matrix, System.out);
+        return matrix;
+    }
+
+    private void print(final Map<PuzzleReference, List<ForkedResult>> matrix, final PrintStream out) {
+        StringBuilder header = new StringBuilder(String.format("%-6s %4s", "Year", "Day"));
+        options.getCollectors().forEach(collector -> header.append(String.format(CELL, collector.name().toLowerCase())));
+        out.println(header);
+        out.println("-".repeat(header.length()));
+
+        matrix.forEach((reference, row) -> {
+            StringBuilder line = new StringBuilder(String.format("%-6d %4d", reference.year(), reference.day()));
+            row.forEach(forked -> line.append(String.format(CELL, cell(forked))));
+            out.println(line);
+        });
+
+        out.println("-".repeat(header.length()));
+        StringBuilder totals = new StringBuilder(String.format("%-11s", "Total"));
+        for (int i = 0; i < options.getCollectors().size(); i++) {
+            final int column = i;
+            List<PuzzleResult> results = matrix.values().stream().map(row -> row.get(column).result()).toList();
+            totals.append(String.format(CELL, overhead(
+                    results.stream().map(PuzzleResult::wall).reduce(Duration.ZERO, Duration::plus),
+                    results.stream().map(PuzzleResult::gcPause).reduce(Duration.ZERO, Duration::plus))));
+        }
+        out.println(totals);
+    }
+
+    private static String cell(final ForkedResult forked) {
+        PuzzleResult result = forked.result();
+        if (!result.isSolved()) {
+            return result.status() + " (exit " + forked.exitCode() + ")";
+        }
+        return overhead(result.wall(), result.gcPause());
+    }
+
+    private static String overhead(final Duration wall, final Duration gcPause) {
+        double share = wall.isZero() ? 0 : 100d * gcPause.toNanos() / wall.toNanos();
+        return String.format("%.1fms %5.1f%%", TimingTable.millis(wall), share);
+    }
+}
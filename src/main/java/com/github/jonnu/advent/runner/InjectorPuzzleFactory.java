@@ -0,0 +1,31 @@
+package com.github.jonnu.advent.runner;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
+import com.github.jonnu.advent.puzzle.Puzzle;
+import com.google.inject.Injector;
+import lombok.AllArgsConstructor;
+
+/**
+ * Creates puzzles through Guice, which finds their {@code @Inject} constructors reflectively.
+ */
+@AllArgsConstructor
+public class InjectorPuzzleFactory implements PuzzleFactory {
+
+    private final Injector injector;
+
+    @Override
+    public Puzzle create(final PuzzleReference reference) {
+        return injector.getInstance(reference.type());
+    }
+
+    @Override
+    public ResourceReader resourceReader() {
+        return injector.getInstance(ResourceReader.class);
+    }
+
+    @Override
+    public Trace trace() {
+        return injector.getInstance(Trace.class);
+    }
+}
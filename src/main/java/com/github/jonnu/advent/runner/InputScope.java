@@ -0,0 +1,29 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.Map;
+
+import com.github.jonnu.advent.common.MemoryResourceReader;
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+
+/**
+ * Injectors for solving a puzzle against input bytes supplied at runtime rather than its own input file. A quiet base
+ * injector is shared, and every input gets a cheap child binding a {@link MemoryResourceReader} that serves those bytes
+ * under the puzzle's resource name, so concurrent solves of the same puzzle never see each other's input.
+ */
+final class InputScope {
+
+    private InputScope() {
+    }
+
+    static Injector base() {
+        return Guice.createInjector(binder -> binder.bind(Trace.class).toInstance(Trace.QUIET));
+    }
+
+    static Injector of(final Injector base, final PuzzleReference reference, final byte[] input) {
+        return base.createChildInjector(binder -> binder.bind(ResourceReader.class)
+                .toInstance(new MemoryResourceReader(Map.of(reference.resource(), input))));
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.jonnu.advent.runner;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Latency distribution of a benchmarked puzzle: the cold first run plus percentiles over the measured iterations.
+ */
+public record LatencySummary(Duration cold, Duration min, Duration median, Duration p90, Duration p99, Duration max, int samples) {
+
+    public static LatencySummary of(final Duration cold, final List<Duration> measured) {
+        if (measured.isEmpty()) {
+            return new LatencySummary(cold, cold, cold, cold, cold, cold, 0);
+        }
+
+        List<Duration> sorted = measured.stream().sorted().toList();
+        return new LatencySummary(
+                cold,
+                sorted.get(0),
+                percentile(sorted, 50),
+                percentile(sorted, 90),
+                percentile(sorted, 99),
+                sorted.get(sorted.size() - 1),
+                sorted.size());
+    }
+
+    // nearest-rank percentile.
+    private static Duration percentile(final List<Duration> sorted, final int percentile) {
+        int rank = (int) Math.ceil(percentile / 100d * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+}
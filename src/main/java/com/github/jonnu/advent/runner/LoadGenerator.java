@@ -0,0 +1,127 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.google.common.io.CharStreams;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Drives a running solver service with {@code --connections} concurrent clients, each sending the inputs of the
+ * selected puzzles round-robin over a single kept-alive connection until {@code --requests} have been answered.
+ * Reports throughput overall and latency percentiles (as seen by the client, so including queueing) per puzzle.
+ */
+@AllArgsConstructor
+public class LoadGenerator {
+
+    private static final String HEADER = String.format("%-9s %8s %8s %10s %10s %10s %10s %10s",
+            "Puzzle", "Requests", "Failed", "Min (ms)", "Median", "p90", "p99", "Max");
+    private static final String ROW = "%-9s %8d %8d %10.3f %10.3f %10.3f %10.3f %10.3f%n";
+
+    private final ResourceReader resourceReader;
+    private final RunnerOptions options;
+
+    private record Sample(PuzzleReference reference, Duration latency, boolean solved) {
+    }
+
+    @SneakyThrows
+    public Map<PuzzleReference, LatencySummary> run(final List<PuzzleReference> references) {
+
+        Map<PuzzleReference, byte[]> inputs = new LinkedHashMap<>();
+        for (PuzzleReference reference : references) {
+            inputs.put(reference, input(reference));
+        }
+
+        AtomicInteger issued = new AtomicInteger();
+        List<Sample> samples = Collections.synchronizedList(new ArrayList<>(options.getRequests()));
+        List<Callable<Void>> clients = new ArrayList<>();
+        for (int i = 0; i < options.getConnections(); i++) {
+            clients.add(() -> {
+                client(references, inputs, issued, samples);
+                return null;
+            });
+        }
+
+        System.out.printf("Sending %d requests over %d connections to port %d%n", options.getRequests(), options.getConnections(), options.getPort());
+        long start = System.nanoTime();
+        try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<Void> client : pool.invokeAll(clients)) {
+                client.get();
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        Map<PuzzleReference, LatencySummary> summaries = new LinkedHashMap<>();
+        for (PuzzleReference reference : references) {
+            List<Duration> latencies = samples.stream()
+                    .filter(sample -> sample.reference().equals(reference))
+                    .map(Sample::latency)
+                    .toList();
+            if (!latencies.isEmpty()) {
+                summaries.put(reference, LatencySummary.of(latencies.get(0), latencies));
+            }
+        }
+
+        System.out.printf("%n%d requests in %.3f ms: %.1f requests/s%n%n",
+                samples.size(), TimingTable.millis(elapsed), samples.size() / (elapsed.toNanos() / 1e9));
+        print(summaries, samples, System.out);
+        return summaries;
+    }
+
+    @SneakyThrows
+    private void client(final List<PuzzleReference> references, final Map<PuzzleReference, byte[]> inputs, final AtomicInteger issued, final List<Sample> samples) {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), options.getPort());
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+
+            for (int n = issued.getAndIncrement(); n < options.getRequests(); n = issued.getAndIncrement()) {
+                PuzzleReference reference = references.get(n % references.size());
+                long start = System.nanoTime();
+                ServiceProtocol.writeRequest(out, reference.year(), reference.day(), inputs.get(reference));
+                ServiceProtocol.Response response = ServiceProtocol.readResponse(in);
+                samples.add(new Sample(reference, Duration.ofNanos(System.nanoTime() - start), response.isSolved()));
+            }
+        }
+    }
+
+    @SneakyThrows
+    private byte[] input(final PuzzleReference reference) {
+        try (BufferedReader reader = resourceReader.read(reference.resource())) {
+            return CharStreams.toString(reader).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void print(final Map<PuzzleReference, LatencySummary> summaries, final List<Sample> samples, final PrintStream out) {
+        out.println(HEADER);
+        out.println("-".repeat(HEADER.length()));
+        summaries.forEach((reference, summary) -> out.printf(ROW,
+                reference,
+                summary.samples(),
+                samples.stream().filter(sample -> sample.reference().equals(reference) && !sample.solved()).count(),
+                TimingTable.millis(summary.min()),
+                TimingTable.millis(summary.median()),
+                TimingTable.millis(summary.p90()),
+                TimingTable.millis(summary.p99()),
+                TimingTable.millis(summary.max())));
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.jonnu.advent.runner;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The separately timed stages of a puzzle execution. Legacy puzzles only ever report {@link #SOLVE}; answers served from
+ * the {@link AnswerCache} report the lookup as {@link #CACHE}.
+ */
+@Getter
+@AllArgsConstructor
+public enum Phase {
+
+    PARSE("Parse"),
+    PART_ONE("Part 1"),
+    PART_TWO("Part 2"),
+    SOLVE("Solve"),
+    CACHE("Cache");
+
+    private final String label;
+}
@@ -0,0 +1,26 @@
+package com.github.jonnu.advent.runner;
+
+import java.time.Duration;
+
+/**
+ * Timing and resource usage of a single phase, plus the answer it produced (if it was a part of a phased puzzle).
+ * Concurrent phases ran alongside one another, so their wall times overlap rather than add up.
+ */
+public record PhaseResult(Phase phase, Duration wall, Duration cpu, long allocatedBytes, long gcCount, Duration gcPause, Object answer, boolean concurrent) {
+
+    static PhaseResult between(final Phase phase, final ResourceUsage.Snapshot start, final ResourceUsage.Snapshot end, final Object answer) {
+        return new PhaseResult(
+                phase,
+                Duration.ofNanos(end.wallNanos() - start.wallNanos()),
+                Duration.ofNanos(end.cpuNanos() - start.cpuNanos()),
+                end.allocatedBytes() - start.allocatedBytes(),
+                end.gcCount() - start.gcCount(),
+                Duration.ofMillis(end.gcMillis() - start.gcMillis()),
+                answer,
+                false);
+    }
+
+    PhaseResult concurrently() {
+        return new PhaseResult(phase, wall, cpu, allocatedBytes, gcCount, gcPause, answer, true);
+    }
+}
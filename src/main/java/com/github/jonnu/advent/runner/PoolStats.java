@@ -0,0 +1,15 @@
+package com.github.jonnu.advent.runner;
+
+/**
+ * Work-stealing activity of the fork/join pool a puzzle ran in: how many tasks idle workers stole from busy ones, and
+ * the most tasks seen queued at once (sampled while the puzzle ran). Few steals with a deep queue suggests the work is
+ * split too coarsely for the parallelism; many steals with a shallow queue, too finely.
+ */
+public record PoolStats(int parallelism, long steals, long peakQueued) {
+
+    public static final PoolStats NONE = new PoolStats(0, 0, 0);
+
+    public boolean isUsed() {
+        return parallelism > 0;
+    }
+}
@@ -0,0 +1,245 @@
+package com.github.jonnu.advent.runner;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import com.github.jonnu.advent.common.BufferedTrace;
+import com.github.jonnu.advent.puzzle.LegacyPuzzle;
+import com.github.jonnu.advent.puzzle.PhasedPuzzle;
+import com.github.jonnu.advent.runner.jfr.PhaseEvent;
+import com.github.jonnu.advent.runner.jfr.PuzzleEvent;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Instantiates a puzzle through the {@link PuzzleFactory} and measures the time, allocation and gc activity of each of its phases.
+ * CPU time and allocation are those of the calling thread only; work a puzzle hands off to other threads is not counted.
+ * Every execution and phase is also emitted as a JFR event, which costs nothing unless a recording is running.
+ * What a legacy puzzle prints is captured and becomes the answer of its solve phase; its trace output is buffered and
+ * only written out once measuring is done.
+ */
+@AllArgsConstructor
+public class PuzzleExecutor {
+
+    private static final Duration POOL_SAMPLE_INTERVAL = Duration.ofMillis(1);
+
+    private final PuzzleFactory puzzles;
+    private final RunnerOptions options;
+    private final AnswerCache cache;
+
+    public PuzzleResult execute(final PuzzleReference reference) {
+        if (!cache.isEnabled()) {
+            return executeWithinBudget(reference);
+        }
+
+        List<PhaseResult> lookup = new ArrayList<>();
+        String key;
+        try {
+            key = timed(reference, Phase.CACHE, () -> cache.key(reference, options.getPart()), lookup);
+        } catch (Exception e) {
+            // the key hashes the input, so an unreadable input fails here, before the puzzle ever reads it.
+            return PuzzleResult.failed(reference, lookup, 0, e);
+        }
+        Optional<List<PhaseResult>> cached = cache.get(key);
+        if (cached.isPresent()) {
+            lookup.addAll(cached.get());
+            return PuzzleResult.cached(reference, lookup, key);
+        }
+
+        PuzzleResult result = executeWithinBudget(reference);
+        if (result.status() == PuzzleResult.Status.SOLVED) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Runs the puzzle on a thread of its own and interrupts it once the configured budget has passed. Puzzles stop at
+     * their next {@code Cancellation.checkpoint()}; one that never checks is abandoned on its (daemon) thread.
+     */
+    @SneakyThrows(InterruptedException.class)
+    private PuzzleResult executeWithinBudget(final PuzzleReference reference) {
+        Duration budget = options.getTimeout();
+        if (budget == null) {
+            return execute(reference, LegacyPuzzle.adapt(puzzles.create(reference)));
+        }
+
+        ExecutorService thread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread worker = new Thread(runnable, "puzzle-" + reference);
+            worker.setDaemon(true);
+            return worker;
+        });
+
+        Future<PuzzleResult> future = thread.submit(() -> execute(reference, LegacyPuzzle.adapt(puzzles.create(reference))));
+        try {
+            return future.get(budget.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return PuzzleResult.timedOut(reference, budget);
+        } catch (ExecutionException e) {
+            return PuzzleResult.failed(reference, List.of(), 0, e.getCause());
+        } finally {
+            thread.shutdownNow();
+        }
+    }
+
+    public <M> PuzzleResult execute(final PuzzleReference reference, final PhasedPuzzle<M, ?, ?> puzzle) {
+        PuzzleEvent event = new PuzzleEvent();
+        event.year = reference.year();
+        event.day = reference.day();
+        event.begin();
+
+        int parallelism = options.parallelismOf(reference);
+        PuzzleResult result = parallelism > 0 ? measureInPool(reference, puzzle, parallelism) : measure(reference, puzzle);
+
+        event.status = result.status().name();
+        event.commit();
+        flushTrace();
+        return result;
+    }
+
+    private void flushTrace() {
+        String text = drainTrace();
+        if (!text.isEmpty()) {
+            System.out.print(text);
+        }
+    }
+
+    // trace buffers are per thread: what a puzzle traces on another thread is drained there and handed back with this.
+    private String drainTrace() {
+        return puzzles.trace() instanceof BufferedTrace trace ? trace.drain() : "";
+    }
+
+    private void appendTrace(final String text) {
+        if (!text.isEmpty()) {
+            puzzles.trace().print(text);
+        }
+    }
+
+    /**
+     * Runs the puzzle as the root task of a fork/join pool of its own, so that its parallel streams split across that
+     * pool rather than the shared common pool. CPU time and allocation are still those of the root task's thread, and so
+     * is the trace buffer, which the task drains before it completes.
+     */
+    @SneakyThrows
+    private <M> PuzzleResult measureInPool(final PuzzleReference reference, final PhasedPuzzle<M, ?, ?> puzzle, final int parallelism) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        AtomicReference<String> pooledTrace = new AtomicReference<>("");
+        try {
+            ForkJoinTask<PuzzleResult> task = pool.submit(() -> {
+                try {
+                    return measure(reference, puzzle);
+                } finally {
+                    pooledTrace.set(drainTrace());
+                }
+            });
+            long peakQueued = 0;
+            PuzzleResult result = null;
+            while (result == null) {
+                peakQueued = Math.max(peakQueued, pool.getQueuedTaskCount() + pool.getQueuedSubmissionCount());
+                try {
+                    result = task.get(POOL_SAMPLE_INTERVAL.toNanos(), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // still running; sample again.
+                }
+            }
+            return result.withPool(new PoolStats(parallelism, pool.getStealCount(), peakQueued));
+        } finally {
+            pool.shutdownNow();
+            appendTrace(pooledTrace.get());
+        }
+    }
+
+    private <M> PuzzleResult measure(final PuzzleReference reference, final PhasedPuzzle<M, ?, ?> puzzle) {
+
+        List<PhaseResult> phases = new ArrayList<>();
+        ResourceUsage.resetPeakHeap();
+        try {
+            if (puzzle.isLegacy()) {
+                timed(reference, Phase.SOLVE, () -> ConsoleCapture.capture(puzzle::solve), phases);
+                return PuzzleResult.solved(reference, phases, ResourceUsage.peakHeap());
+            }
+
+            M model = timed(reference, Phase.PARSE, puzzle::parse, phases);
+            boolean bothParts = options.getPart() == RunnerOptions.Part.BOTH;
+            if (bothParts && options.isConcurrentParts() && puzzle.hasIndependentParts()) {
+                measureConcurrently(reference, puzzle, model, phases);
+                return PuzzleResult.solved(reference, phases, ResourceUsage.peakHeap());
+            }
+
+            if (options.getPart().includes(Phase.PART_ONE)) {
+                timed(reference, Phase.PART_ONE, () -> puzzle.partOne(model), phases);
+            }
+            if (options.getPart().includes(Phase.PART_TWO)) {
+                timed(reference, Phase.PART_TWO, () -> puzzle.partTwo(model), phases);
+            }
+            return PuzzleResult.solved(reference, phases, ResourceUsage.peakHeap());
+        } catch (Exception e) {
+            return PuzzleResult.failed(reference, phases, ResourceUsage.peakHeap(), e);
+        }
+    }
+
+    /**
+     * Runs part two on a thread of its own while part one runs on this one, waiting for both before returning; should
+     * either fail, the other is cancelled. Each part's CPU time and allocation are measured on its own thread, while gc
+     * activity is process-wide and so counted against both. Part two's trace is drained on its thread and follows part one's.
+     */
+    @SneakyThrows
+    private <M> void measureConcurrently(final PuzzleReference reference, final PhasedPuzzle<M, ?, ?> puzzle, final M model, final List<PhaseResult> phases) {
+        List<PhaseResult> partOne = new ArrayList<>();
+        List<PhaseResult> partTwo = new ArrayList<>();
+        AtomicReference<String> partTwoTrace = new AtomicReference<>("");
+        try (ExecutorService parts = Executors.newThreadPerTaskExecutor(Thread.ofPlatform().name("part-two-" + reference).factory())) {
+            Future<?> second = parts.submit(() -> {
+                try {
+                    return timed(reference, Phase.PART_TWO, () -> puzzle.partTwo(model), partTwo);
+                } finally {
+                    partTwoTrace.set(drainTrace());
+                }
+            });
+            try {
+                timed(reference, Phase.PART_ONE, () -> puzzle.partOne(model), partOne);
+                second.get();
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } finally {
+                second.cancel(true);
+            }
+        } finally {
+            // closing the executor waits for part two, so its trace has been drained by now; it follows part one's.
+            appendTrace(partTwoTrace.get());
+        }
+        partOne.forEach(phase -> phases.add(phase.concurrently()));
+        partTwo.forEach(phase -> phases.add(phase.concurrently()));
+    }
+
+    private static <T> T timed(final PuzzleReference reference, final Phase phase, final Supplier<T> body, final List<PhaseResult> phases) {
+        PhaseEvent event = new PhaseEvent();
+        event.year = reference.year();
+        event.day = reference.day();
+        event.phase = phase.getLabel();
+        event.begin();
+
+        ResourceUsage.Snapshot start = ResourceUsage.snapshot();
+        T answer = null;
+        try {
+            answer = body.get();
+            return answer;
+        } finally {
+            phases.add(PhaseResult.between(phase, start, ResourceUsage.snapshot(), phase == Phase.PARSE || phase == Phase.CACHE ? null : answer));
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.github.jonnu.advent.runner;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
+import com.github.jonnu.advent.puzzle.Puzzle;
+
+/**
+ * Creates puzzle instances, together with what they are wired with.
+ */
+public interface PuzzleFactory {
+
+    Puzzle create(PuzzleReference reference);
+
+    ResourceReader resourceReader();
+
+    Trace trace();
+}
@@ -0,0 +1,25 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.List;
+
+/**
+ * Finds the puzzles there are to run, in year and day order.
+ */
+public interface PuzzleLocator {
+
+    List<PuzzleReference> locate();
+
+    default List<PuzzleReference> locate(final List<String> selectors) {
+        return locate().stream()
+                .filter(reference -> selectors.isEmpty() || selectors.stream().anyMatch(reference::matches))
+                .toList();
+    }
+
+    default PuzzleReference latest() {
+        List<PuzzleReference> references = locate();
+        if (references.isEmpty()) {
+            throw new IllegalStateException("No puzzles found");
+        }
+        return references.get(references.size() - 1);
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.Comparator;
+
+import com.github.jonnu.advent.puzzle.Puzzle;
+
+/**
+ * A discovered puzzle implementation, identified by its year and day.
+ */
+public record PuzzleReference(int year, int day, Class<? extends Puzzle> type) implements Comparable<PuzzleReference> {
+
+    private static final Comparator<PuzzleReference> ORDER = Comparator.comparingInt(PuzzleReference::year)
+            .thenComparingInt(PuzzleReference::day);
+
+    /**
+     * The conventional name of this puzzle's input, as passed to the {@code ResourceReader}.
+     */
+    public String resource() {
+        return "y" + year + "/puzzle" + day + ".txt";
+    }
+
+    public boolean matches(final String selector) {
+        return matches(year, day, selector);
+    }
+
+    /**
+     * Whether {@code year/day} is selected, for callers that would rather not resolve the puzzle's type to find out.
+     */
+    static boolean matches(final int year, final int day, final String selector) {
+        String[] parts = selector.split("/");
+        return switch (parts.length) {
+            case 1 -> year == Integer.parseInt(parts[0]);
+            case 2 -> year == Integer.parseInt(parts[0]) && day == Integer.parseInt(parts[1]);
+            default -> throw new IllegalArgumentException("Unknown puzzle selector: " + selector);
+        };
+    }
+
+    @Override
+    public int compareTo(final PuzzleReference other) {
+        return ORDER.compare(this, other);
+    }
+
+    @Override
+    public String toString() {
+        return year + "/" + day;
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jonnu.advent.runner;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * The outcome of a single measured puzzle execution, broken down by phase.
+ */
+public record PuzzleResult(PuzzleReference reference, Status status, List<PhaseResult> phases, long peakHeapBytes, String detail, PoolStats pool) {
+
+    public enum Status {
+        SOLVED,
+        CACHED,
+        FAILED,
+        TIMEOUT
+    }
+
+    public static PuzzleResult solved(final PuzzleReference reference, final List<PhaseResult> phases, final long peakHeapBytes) {
+        return new PuzzleResult(reference, Status.SOLVED, List.copyOf(phases), peakHeapBytes, "", PoolStats.NONE);
+    }
+
+    public static PuzzleResult failed(final PuzzleReference reference, final List<PhaseResult> phases, final long peakHeapBytes, final Throwable cause) {
+        return new PuzzleResult(reference, Status.FAILED, List.copyOf(phases), peakHeapBytes, String.valueOf(cause), PoolStats.NONE);
+    }
+
+    public static PuzzleResult timedOut(final PuzzleReference reference, final Duration budget) {
+        PhaseResult elapsed = new PhaseResult(Phase.SOLVE, budget, Duration.ZERO, 0, 0, Duration.ZERO, null, false);
+        return new PuzzleResult(reference, Status.TIMEOUT, List.of(elapsed), 0, "exceeded " + budget.toMillis() + " ms", PoolStats.NONE);
+    }
+
+    public static PuzzleResult cached(final PuzzleReference reference, final List<PhaseResult> phases, final String key) {
+        return new PuzzleResult(reference, Status.CACHED, List.copyOf(phases), 0, key, PoolStats.NONE);
+    }
+
+    public PuzzleResult withPool(final PoolStats pool) {
+        return new PuzzleResult(reference, status, phases, peakHeapBytes, detail, pool);
+    }
+
+    public boolean isSolved() {
+        return status == Status.SOLVED || status == Status.CACHED;
+    }
+
+    public Optional<PhaseResult> phase(final Phase phase) {
+        return phases.stream()
+                .filter(result -> result.phase() == phase)
+                .findFirst();
+    }
+
+    // sequential phases add up; concurrent ones only take as long as the slowest of them.
+    public Duration wall() {
+        Duration sequential = phases.stream().filter(phase -> !phase.concurrent()).map(PhaseResult::wall).reduce(Duration.ZERO, Duration::plus);
+        Duration concurrent = phases.stream().filter(PhaseResult::concurrent).map(PhaseResult::wall).max(Duration::compareTo).orElse(Duration.ZERO);
+        return sequential.plus(concurrent);
+    }
+
+    public Duration cpu() {
+        return phases.stream().map(PhaseResult::cpu).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    public Duration gcPause() {
+        return phases.stream().map(PhaseResult::gcPause).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    public long allocatedBytes() {
+        return sum(PhaseResult::allocatedBytes);
+    }
+
+    public long gcCount() {
+        return sum(PhaseResult::gcCount);
+    }
+
+    private long sum(final ToLongFunction<PhaseResult> property) {
+        return phases.stream().mapToLong(property).sum();
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.jonnu.advent.runner;
+
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.common.Trace;
+import com.github.jonnu.advent.puzzle.Puzzle;
+import com.github.jonnu.advent.puzzle.PuzzleRegistry;
+import lombok.AllArgsConstructor;
+
+/**
+ * Creates puzzles by calling their constructors directly through the {@link PuzzleRegistry}, without an injector.
+ */
+@AllArgsConstructor
+public class RegistryPuzzleFactory implements PuzzleFactory {
+
+    private final ResourceReader resourceReader;
+    private final Trace trace;
+
+    @Override
+    public Puzzle create(final PuzzleReference reference) {
+        return PuzzleRegistry.create(reference.year(), reference.day(), resourceReader, trace);
+    }
+
+    @Override
+    public ResourceReader resourceReader() {
+        return resourceReader;
+    }
+
+    @Override
+    public Trace trace() {
+        return trace;
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.jonnu.advent.puzzle.PuzzleRegistry;
+
+/**
+ * Lists puzzles from the {@link PuzzleRegistry} instead of scanning the classpath. Only the years a selector can
+ * match are consulted, and a puzzle's type is only resolved once its day is selected, so selecting {@code 2023/14}
+ * loads the 2023 listing and the one puzzle class, and nothing else. Listing every puzzle loads every puzzle class.
+ */
+public class RegistryPuzzleLocator implements PuzzleLocator {
+
+    @Override
+    public List<PuzzleReference> locate() {
+        List<PuzzleReference> references = new ArrayList<>();
+        for (int year : PuzzleRegistry.years()) {
+            references.addAll(locate(year));
+        }
+        return references;
+    }
+
+    @Override
+    public List<PuzzleReference> locate(final List<String> selectors) {
+        if (selectors.isEmpty()) {
+            return locate();
+        }
+
+        List<PuzzleReference> references = new ArrayList<>();
+        for (int year : PuzzleRegistry.years()) {
+            if (selectors.stream().noneMatch(selector -> selector.split("/")[0].equals(String.valueOf(year)))) {
+                continue;
+            }
+            for (int day : PuzzleRegistry.days(year)) {
+                if (selectors.stream().anyMatch(selector -> PuzzleReference.matches(year, day, selector))) {
+                    references.add(reference(year, day));
+                }
+            }
+        }
+        return references;
+    }
+
+    @Override
+    public PuzzleReference latest() {
+        int[] years = PuzzleRegistry.years();
+        int year = years[years.length - 1];
+        int[] days = PuzzleRegistry.days(year);
+        return reference(year, days[days.length - 1]);
+    }
+
+    private static List<PuzzleReference> locate(final int year) {
+        return Arrays.stream(PuzzleRegistry.days(year))
+                .mapToObj(day -> reference(year, day))
+                .toList();
+    }
+
+    private static PuzzleReference reference(final int year, final int day) {
+        return new PuzzleReference(year, day, PuzzleRegistry.type(year, day));
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Point-in-time readings of the JVM resources a puzzle consumes.
+ * Cpu time and allocated bytes belong to the calling thread; gc activity and heap peaks are JVM wide, so they are only
+ * attributable to a single puzzle when puzzles run one after another. Gc activity counts stop-the-world pauses only:
+ * concurrent collectors also expose beans for the cycles they run alongside the application ("ZGC Cycles",
+ * "G1 Concurrent GC"), whose time is not time the puzzle was stopped and whose collections are already counted as
+ * pauses.
+ */
+final class ResourceUsage {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> PAUSES = ManagementFactory.getGarbageCollectorMXBeans()
+            .stream()
+            .filter(collector -> isPause(collector.getName()))
+            .toList();
+    private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans()
+            .stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .toList();
+
+    private static final String PEAK_RSS = "VmHWM:";
+
+    private ResourceUsage() {
+    }
+
+    record Snapshot(long wallNanos, long cpuNanos, long allocatedBytes, long gcCount, long gcMillis) {
+    }
+
+    static Snapshot snapshot() {
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (GarbageCollectorMXBean collector : PAUSES) {
+            gcCount += Math.max(0, collector.getCollectionCount());
+            gcMillis += Math.max(0, collector.getCollectionTime());
+        }
+        return new Snapshot(
+                System.nanoTime(),
+                THREADS.getCurrentThreadCpuTime(),
+                THREADS.getCurrentThreadAllocatedBytes(),
+                gcCount,
+                gcMillis);
+    }
+
+    // ZGC and Shenandoah name their concurrent beans "... Cycles", G1 (from JDK 20) "G1 Concurrent GC".
+    private static boolean isPause(final String name) {
+        return !name.endsWith("Cycles") && !name.contains("Concurrent");
+    }
+
+    /**
+     * Peak resident set size (VmHWM) of a process, as reported by {@code /proc/<pid>/status}; -1 where unavailable.
+     */
+    static long peakRss(final long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            return lines.filter(line -> line.startsWith(PEAK_RSS))
+                    .map(line -> line.substring(PEAK_RSS.length()).trim().split("\\s+")[0])
+                    .mapToLong(kilobytes -> Long.parseLong(kilobytes) * 1_024)
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException | UncheckedIOException e) {
+            return -1;
+        }
+    }
+
+    static void resetPeakHeap() {
+        HEAP_POOLS.forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    // the sum of each pool's own peak; an upper bound, as pools need not peak at the same moment.
+    static long peakHeap() {
+        return HEAP_POOLS.stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+}
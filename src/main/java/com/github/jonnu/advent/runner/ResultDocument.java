@@ -0,0 +1,101 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Renders results as a single machine-readable document, built in memory and written in one go once every puzzle has
+ * finished: a JSON array with one object per puzzle, or CSV with one row per answered phase.
+ */
+final class ResultDocument {
+
+    private static final String CSV_HEADER = "year,day,status,phase,answer,wall_ms,cpu_ms,allocated_bytes";
+
+    private ResultDocument() {
+    }
+
+    static String render(final RunnerOptions.Output output, final List<PuzzleResult> results) {
+        return switch (output) {
+            case JSON -> json(results);
+            case CSV -> csv(results);
+            case TEXT -> throw new IllegalArgumentException("Not a document output: " + output);
+        };
+    }
+
+    private static String json(final List<PuzzleResult> results) {
+        return results.stream()
+                .map(ResultDocument::json)
+                .collect(Collectors.joining(",\n", "[\n", "\n]\n"));
+    }
+
+    private static String json(final PuzzleResult result) {
+        String phases = result.phases()
+                .stream()
+                .map(phase -> String.format(Locale.ROOT, "{\"phase\": %s, \"answer\": %s, \"wallMs\": %.3f, \"cpuMs\": %.3f, \"allocatedBytes\": %d}",
+                        quote(phase.phase().name()),
+                        phase.answer() == null ? "null" : quote(String.valueOf(phase.answer())),
+                        TimingTable.millis(phase.wall()),
+                        TimingTable.millis(phase.cpu()),
+                        phase.allocatedBytes()))
+                .collect(Collectors.joining(", ", "[", "]"));
+
+        return String.format(Locale.ROOT, "  {\"year\": %d, \"day\": %d, \"status\": %s, \"detail\": %s, \"wallMs\": %.3f, \"peakHeapBytes\": %d, \"phases\": %s}",
+                result.reference().year(),
+                result.reference().day(),
+                quote(result.status().name()),
+                quote(result.detail()),
+                TimingTable.millis(result.wall()),
+                result.peakHeapBytes(),
+                phases);
+    }
+
+    private static String csv(final List<PuzzleResult> results) {
+        StringBuilder document = new StringBuilder(CSV_HEADER).append('\n');
+        for (PuzzleResult result : results) {
+            result.phases()
+                    .stream()
+                    .filter(phase -> phase.answer() != null || !result.isSolved())
+                    .forEach(phase -> document.append(String.format(Locale.ROOT, "%d,%d,%s,%s,%s,%.3f,%.3f,%d%n",
+                            result.reference().year(),
+                            result.reference().day(),
+                            result.status(),
+                            phase.phase(),
+                            field(phase.answer() == null ? result.detail() : String.valueOf(phase.answer())),
+                            TimingTable.millis(phase.wall()),
+                            TimingTable.millis(phase.cpu()),
+                            phase.allocatedBytes())));
+        }
+        return document.toString();
+    }
+
+    private static String quote(final String string) {
+        StringBuilder quoted = new StringBuilder("\"");
+        for (char c : string.toCharArray()) {
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                case '\n' -> quoted.append("\\n");
+                case '\r' -> quoted.append("\\r");
+                case '\t' -> quoted.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+
+    // legacy answers are whatever the puzzle printed, so may well contain commas, quotes and newlines.
+    private static String field(final String string) {
+        String trimmed = string.strip();
+        if (trimmed.chars().noneMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r')) {
+            return trimmed;
+        }
+        return "\"" + trimmed.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,298 @@
+package com.github.jonnu.advent.runner;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * Command line options for the {@link AdventRunner}.
+ * Options take the form {@code --name=value}; anything else is treated as a puzzle selector ({@code 2023} or {@code 2023/14}).
+ */
+@Value
+@Builder(toBuilder = true)
+public class RunnerOptions {
+
+    private static final Path DAEMON_INPUTS = Path.of("src/main/resources");
+    private static final long DEFAULT_INPUT_CACHE_SIZE = 64 * 1_024 * 1_024;
+    private static final Pattern DURATION = Pattern.compile("^(?<amount>\\d+)(?<unit>ms|s|m)?$");
+
+    @Builder.Default
+    Mode mode = Mode.SOLVE;
+
+    @Builder.Default
+    int threads = 1;
+
+    @Builder.Default
+    Part part = Part.BOTH;
+
+    @Builder.Default
+    int warmup = 5;
+
+    @Builder.Default
+    int iterations = 20;
+
+    @Builder.Default
+    TimingTable.Sort sort = TimingTable.Sort.YEAR;
+
+    // directory of alternative inputs for one puzzle, solved by the throughput mode.
+    Path corpus;
+
+    // loopback port of the solver service, which the load generator connects to as well.
+    @Builder.Default
+    int port = 7070;
+
+    @Builder.Default
+    int connections = 8;
+
+    @Builder.Default
+    int requests = 1_000;
+
+    // largest input the solver service accepts in one request.
+    @Builder.Default
+    long maximumRequestSize = 16 * 1_024 * 1_024;
+
+    // run both parts of puzzles that declare them independent at the same time.
+    boolean concurrentParts;
+
+    // fork/join parallelism of puzzles' parallel streams, overridable per selector; 0 to use the common pool.
+    int parallelism;
+
+    @Singular("puzzleParallelism")
+    Map<String, Integer> puzzleParallelism;
+
+    // how puzzles are found and constructed: by classpath scan and Guice, or the hand-written registry.
+    @Builder.Default
+    Wiring wiring = Wiring.GUICE;
+
+    // how answers are written; json and csv replace the human-readable tables with a single document.
+    @Builder.Default
+    Output output = Output.TEXT;
+
+    // drop puzzles' trace output (grids, trees) without rendering it.
+    boolean quiet;
+
+    // answers are cached unless bypassed with --no-cache; benchmarks never use the cache.
+    @Builder.Default
+    boolean cache = true;
+
+    @Builder.Default
+    Path cacheDirectory = Path.of("build/answer-cache");
+
+    @Builder.Default
+    long cacheSize = 16 * 1_024 * 1_024;
+
+    // time budget per puzzle; null for no limit.
+    Duration timeout;
+
+    // -Xmx and collector of forked puzzle JVMs; null for the JVM defaults.
+    String heap;
+
+    Collector collector;
+
+    @Builder.Default
+    List<Collector> collectors = List.of(Collector.G1, Collector.PARALLEL, Collector.Z, Collector.EPSILON);
+
+    // class data sharing archive written by a training run and mapped by forked children whenever it exists.
+    @Builder.Default
+    Path cdsArchive = Path.of("build/cds/advent.jsa");
+
+    @Builder.Default
+    boolean cds = true;
+
+    // directory to read inputs from instead of the classpath; null to use the classpath.
+    Path inputs;
+
+    // map inputs under the directory into memory instead of streaming them.
+    boolean mapped;
+
+    // inflate compressed inputs under the directory on a thread of their own, ahead of the puzzle parsing them.
+    boolean inflateAhead;
+
+    // bytes of inputs kept in memory between solves, least recently used evicted first; 0 to always re-read, null to
+    // decide by mode.
+    Long inputCacheSize;
+
+    // directory to write a flight recording of the run into; null when not recording.
+    Path jfr;
+
+    @Singular
+    List<String> selectors;
+
+    public enum Mode {
+        SOLVE,
+        BATCH,
+        BENCHMARK,
+        DAEMON,
+        FORK,
+        GC_MATRIX,
+        SERVICE,
+        LOAD,
+        THROUGHPUT,
+        STRESS,
+        CDS_TRAIN,
+        STARTUP,
+        // internal: a single forked puzzle JVM reporting back to a FORK parent.
+        CHILD;
+
+        public static Mode fromString(final String string) {
+            return valueOf(string.toUpperCase().replace('-', '_'));
+        }
+    }
+
+    public enum Part {
+        ONE,
+        TWO,
+        BOTH;
+
+        public boolean includes(final Phase phase) {
+            return switch (phase) {
+                case PART_ONE -> this != TWO;
+                case PART_TWO -> this != ONE;
+                default -> true;
+            };
+        }
+
+        public static Part fromString(final String string) {
+            return switch (string.toLowerCase()) {
+                case "1", "one" -> ONE;
+                case "2", "two" -> TWO;
+                case "both" -> BOTH;
+                default -> throw new IllegalArgumentException("Unknown part: " + string);
+            };
+        }
+    }
+
+    public enum Wiring {
+        GUICE,
+        REGISTRY;
+
+        public static Wiring fromString(final String string) {
+            return valueOf(string.toUpperCase());
+        }
+    }
+
+    public enum Output {
+        TEXT,
+        JSON,
+        CSV;
+
+        public static Output fromString(final String string) {
+            return valueOf(string.toUpperCase());
+        }
+    }
+
+    /**
+     * Trace output is only shown alongside human-readable answers of the modes that print them; everything else,
+     * benchmarks and structured documents included, runs quiet.
+     */
+    public boolean isTracing() {
+        return !quiet && output == Output.TEXT && (mode == Mode.SOLVE || mode == Mode.BATCH || mode == Mode.DAEMON);
+    }
+
+    /**
+     * Inputs are only held in memory by the modes that solve the same puzzle over and over, where re-reading would be
+     * timed along with the solver; a one-shot run would just pay for a copy. {@code --input-cache} overrides this.
+     */
+    public long inputCacheBytes() {
+        if (inputCacheSize != null) {
+            return inputCacheSize;
+        }
+        return mode == Mode.BENCHMARK || mode == Mode.STRESS ? DEFAULT_INPUT_CACHE_SIZE : 0;
+    }
+
+    /**
+     * The most specific matching selector wins, so {@code 4,2021:2,2021/7:16} gives 2021/7 sixteen threads, the rest
+     * of 2021 two, and everything else four.
+     */
+    public int parallelismOf(final PuzzleReference reference) {
+        return puzzleParallelism.entrySet()
+                .stream()
+                .filter(entry -> reference.matches(entry.getKey()))
+                .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                .map(Map.Entry::getValue)
+                .orElse(parallelism);
+    }
+
+    public static RunnerOptions parse(final String[] args) {
+        RunnerOptionsBuilder builder = RunnerOptions.builder();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                builder.selector(arg);
+                continue;
+            }
+
+            String[] option = arg.substring(2).split("=", 2);
+            String value = option.length > 1 ? option[1] : "true";
+            switch (option[0]) {
+                case "mode" -> builder.mode(Mode.fromString(value));
+                case "threads" -> builder.threads(Integer.parseInt(value));
+                case "part" -> builder.part(Part.fromString(value));
+                case "warmup" -> builder.warmup(Integer.parseInt(value));
+                case "iterations" -> builder.iterations(Integer.parseInt(value));
+                case "timeout" -> builder.timeout(parseDuration(value));
+                case "no-cache" -> builder.cache(false);
+                case "cache-dir" -> builder.cacheDirectory(Path.of(value));
+                case "cache-size" -> builder.cacheSize(Long.parseLong(value) * 1_024 * 1_024);
+                case "xmx" -> builder.heap(value);
+                case "gc" -> builder.collector(Collector.fromString(value));
+                case "collectors" -> builder.collectors(Arrays.stream(value.split(",")).map(Collector::fromString).toList());
+                case "cds-archive" -> builder.cdsArchive(Path.of(value));
+                case "no-cds" -> builder.cds(false);
+                case "inputs" -> builder.inputs(Path.of(value));
+                case "mapped" -> builder.mapped(true);
+                case "inflate-ahead" -> builder.inflateAhead(true);
+                case "input-cache" -> builder.inputCacheSize(Long.parseLong(value) * 1_024 * 1_024);
+                case "jfr" -> builder.jfr(Path.of("true".equals(value) ? "build/jfr" : value));
+                case "sort" -> builder.sort(TimingTable.Sort.fromString(value));
+                case "wiring" -> builder.wiring(Wiring.fromString(value));
+                case "concurrent-parts" -> builder.concurrentParts(true);
+                case "parallelism" -> Arrays.stream(value.split(",")).forEach(entry -> {
+                    String[] selector = entry.split(":", 2);
+                    if (selector.length > 1) {
+                        builder.puzzleParallelism(selector[0], Integer.parseInt(selector[1]));
+                    } else {
+                        builder.parallelism(Integer.parseInt(entry));
+                    }
+                });
+                case "corpus" -> builder.corpus(Path.of(value));
+                case "port" -> builder.port(Integer.parseInt(value));
+                case "max-request" -> builder.maximumRequestSize(Long.parseLong(value) * 1_024 * 1_024);
+                case "connections" -> builder.connections(Integer.parseInt(value));
+                case "requests" -> builder.requests(Integer.parseInt(value));
+                case "output" -> builder.output(Output.fromString(value));
+                case "quiet" -> builder.quiet(true);
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        // the daemon watches files on disk, so it has to read them from there too rather than from the classpath.
+        RunnerOptions options = builder.build();
+        if (options.getMode() == Mode.DAEMON && options.getInputs() == null) {
+            return options.toBuilder().inputs(DAEMON_INPUTS).build();
+        }
+        return options;
+    }
+
+    // 1500ms, 30s, 2m; a bare number is taken as seconds.
+    private static Duration parseDuration(final String string) {
+        Matcher matcher = DURATION.matcher(string);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unknown duration: " + string);
+        }
+        long amount = Long.parseLong(matcher.group("amount"));
+        return switch (String.valueOf(matcher.group("unit"))) {
+            case "ms" -> Duration.ofMillis(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            default -> Duration.ofSeconds(amount);
+        };
+    }
+}
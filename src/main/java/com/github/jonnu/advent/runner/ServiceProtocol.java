@@ -0,0 +1,138 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wire format of the solver service. Connections are kept open and carry any number of request/response pairs:
+ * <ul>
+ *     <li>request: {@code int year, int day, int length, byte[length] input}</li>
+ *     <li>response: {@code UTF status, long wallNanos, blob detail, int count, count * (UTF phase, blob answer)}</li>
+ * </ul>
+ * where a blob is an {@code int} length followed by that many bytes of UTF-8, as answers may exceed {@code writeUTF}'s
+ * 64K limit.
+ */
+final class ServiceProtocol {
+
+    private ServiceProtocol() {
+    }
+
+    record Request(int year, int day, byte[] input) {
+
+        String puzzle() {
+            return year + "/" + day;
+        }
+    }
+
+    record Response(String status, Duration wall, String detail, Map<String, String> answers) {
+
+        boolean isSolved() {
+            return PuzzleResult.Status.SOLVED.name().equals(status);
+        }
+    }
+
+    static void writeRequest(final DataOutputStream out, final int year, final int day, final byte[] input) throws IOException {
+        out.writeInt(year);
+        out.writeInt(day);
+        out.writeInt(input.length);
+        out.write(input);
+        out.flush();
+    }
+
+    /**
+     * The length of an input is checked before anything is allocated for it, as it comes from the client.
+     *
+     * @return the next request, or null once the client has closed the connection.
+     * @throws MalformedMessageException if the input is longer than {@code maximumBytes}, or its length is negative.
+     */
+    static Request readRequest(final DataInputStream in, final long maximumBytes) throws IOException {
+        int year;
+        try {
+            year = in.readInt();
+        } catch (EOFException e) {
+            return null;
+        }
+        int day = in.readInt();
+        byte[] input = new byte[length(in, maximumBytes)];
+        in.readFully(input);
+        return new Request(year, day, input);
+    }
+
+    static void writeResponse(final DataOutputStream out, final PuzzleResult result) throws IOException {
+        out.writeUTF(result.status().name());
+        out.writeLong(result.wall().toNanos());
+        writeBlob(out, result.detail());
+
+        Map<String, String> answers = new LinkedHashMap<>();
+        result.phases()
+                .stream()
+                .filter(phase -> phase.answer() != null)
+                .forEach(phase -> answers.put(phase.phase().getLabel(), String.valueOf(phase.answer())));
+        writeAnswers(out, answers);
+    }
+
+    static void writeError(final DataOutputStream out, final String detail) throws IOException {
+        out.writeUTF(PuzzleResult.Status.FAILED.name());
+        out.writeLong(0);
+        writeBlob(out, detail);
+        writeAnswers(out, Map.of());
+    }
+
+    static Response readResponse(final DataInputStream in) throws IOException {
+        String status = in.readUTF();
+        Duration wall = Duration.ofNanos(in.readLong());
+        String detail = readBlob(in);
+
+        Map<String, String> answers = new LinkedHashMap<>();
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            answers.put(in.readUTF(), readBlob(in));
+        }
+        return new Response(status, wall, detail, answers);
+    }
+
+    private static void writeAnswers(final DataOutputStream out, final Map<String, String> answers) throws IOException {
+        out.writeInt(answers.size());
+        for (Map.Entry<String, String> answer : answers.entrySet()) {
+            out.writeUTF(answer.getKey());
+            writeBlob(out, answer.getValue());
+        }
+        out.flush();
+    }
+
+    private static void writeBlob(final DataOutputStream out, final String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readBlob(final DataInputStream in) throws IOException {
+        byte[] bytes = new byte[length(in, Integer.MAX_VALUE)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int length(final DataInputStream in, final long maximumBytes) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > maximumBytes) {
+            throw new MalformedMessageException("Invalid length: " + length + " bytes (at most " + maximumBytes + " accepted)");
+        }
+        return length;
+    }
+
+    /**
+     * A length that cannot be honoured. The bytes that follow it can no longer be framed, so the connection is done.
+     */
+    static class MalformedMessageException extends IOException {
+
+        MalformedMessageException(final String message) {
+            super(message);
+        }
+    }
+}
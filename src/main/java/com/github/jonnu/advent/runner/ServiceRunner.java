@@ -0,0 +1,97 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.inject.Injector;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Serves puzzle solutions over a loopback TCP socket (see {@link ServiceProtocol}). Every connection is handled on a
+ * virtual thread of its own, while a semaphore bounds how many requests solve at once to {@code --threads}.
+ * Each request is solved in its own {@link InputScope}, against the bytes that came with it; inputs over
+ * {@code --max-request} are refused before anything is allocated for them.
+ */
+@AllArgsConstructor
+public class ServiceRunner {
+
+    private static final int BACKLOG = 128;
+
+    private final RunnerOptions options;
+
+    @SneakyThrows
+    public void run(final List<PuzzleReference> references) {
+
+        Map<String, PuzzleReference> puzzles = references.stream()
+                .collect(Collectors.toMap(PuzzleReference::toString, Function.identity()));
+        Injector base = InputScope.base();
+        Semaphore permits = new Semaphore(options.getThreads());
+
+        try (ServerSocket server = new ServerSocket(options.getPort(), BACKLOG, InetAddress.getLoopbackAddress());
+             ExecutorService connections = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            System.out.printf("Serving %d puzzles on %s:%d, solving at most %d at once%n",
+                    puzzles.size(), server.getInetAddress().getHostAddress(), server.getLocalPort(), options.getThreads());
+            while (!Thread.currentThread().isInterrupted()) {
+                Socket socket = server.accept();
+                connections.submit(() -> serve(socket, base, puzzles, permits));
+            }
+        }
+    }
+
+    private void serve(final Socket socket, final Injector base, final Map<String, PuzzleReference> puzzles, final Semaphore permits) {
+        try (socket;
+             DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()))) {
+
+            ServiceProtocol.Request request = readRequest(in, out);
+            while (request != null) {
+                PuzzleReference reference = puzzles.get(request.puzzle());
+                if (reference == null) {
+                    ServiceProtocol.writeError(out, "Unknown puzzle: " + request.puzzle());
+                } else {
+                    ServiceProtocol.writeResponse(out, solve(base, reference, request.input(), permits));
+                }
+                request = readRequest(in, out);
+            }
+        } catch (IOException e) {
+            System.err.printf("Connection from %s dropped: %s%n", socket.getRemoteSocketAddress(), e);
+        }
+    }
+
+    // a malformed request is answered with an error and ends the connection, as if the client had closed it.
+    private ServiceProtocol.Request readRequest(final DataInputStream in, final DataOutputStream out) throws IOException {
+        try {
+            return ServiceProtocol.readRequest(in, options.getMaximumRequestSize());
+        } catch (ServiceProtocol.MalformedMessageException e) {
+            ServiceProtocol.writeError(out, e.getMessage());
+            return null;
+        }
+    }
+
+    @SneakyThrows(InterruptedException.class)
+    private PuzzleResult solve(final Injector base, final PuzzleReference reference, final byte[] input, final Semaphore permits) {
+        PuzzleFactory puzzles = new InjectorPuzzleFactory(InputScope.of(base, reference, input));
+
+        permits.acquire();
+        try {
+            return new PuzzleExecutor(puzzles, options, AnswerCache.disabled()).execute(reference);
+        } finally {
+            permits.release();
+        }
+    }
+}
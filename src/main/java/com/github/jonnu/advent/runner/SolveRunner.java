@@ -0,0 +1,63 @@
+package com.github.jonnu.advent.runner;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Solves puzzles one at a time, printing their answers followed by a breakdown of where the time and memory went.
+ * With a structured output, nothing is printed until every puzzle is solved, and then only the document.
+ */
+@AllArgsConstructor
+public class SolveRunner {
+
+    private final PuzzleExecutor executor;
+    private final RunnerOptions options;
+
+    public void run(final List<PuzzleReference> references) {
+        if (options.getOutput() == RunnerOptions.Output.TEXT) {
+            references.forEach(this::solve);
+            return;
+        }
+        System.out.print(ResultDocument.render(options.getOutput(), references.stream().map(executor::execute).toList()));
+    }
+
+    public PuzzleResult solve(final PuzzleReference reference) {
+        System.out.printf("Puzzle: %s%n%n", reference.type().getCanonicalName());
+        PuzzleResult result = executor.execute(reference);
+
+        result.phases()
+                .stream()
+                .filter(phase -> phase.answer() != null)
+                .forEach(phase -> System.out.print(format(phase)));
+
+        StartupClock.firstAnswer(options.getWiring());
+
+        if (!result.isSolved()) {
+            System.out.printf("%nFailed: %s%n", result.detail());
+        }
+
+        System.out.printf("%nTime taken: %.3f ms (%s)%n", TimingTable.millis(result.wall()), result.phases()
+                .stream()
+                .map(phase -> String.format("%s: %.3f ms", phase.phase().getLabel(), TimingTable.millis(phase.wall())))
+                .collect(Collectors.joining(", ")));
+        System.out.printf("Allocated: %s, GCs: %d (%d ms), peak heap: %s%n",
+                TimingTable.bytes(result.allocatedBytes()),
+                result.gcCount(),
+                result.gcPause().toMillis(),
+                TimingTable.bytes(result.peakHeapBytes()));
+        if (result.pool().isUsed()) {
+            System.out.printf("Fork/join pool: parallelism %d, steals: %d, peak queued: %d%n",
+                    result.pool().parallelism(), result.pool().steals(), result.pool().peakQueued());
+        }
+        return result;
+    }
+
+    // legacy puzzles answer with everything they printed; phased puzzles with a single value per part.
+    static String format(final PhaseResult phase) {
+        return phase.phase() == Phase.SOLVE
+                ? String.valueOf(phase.answer())
+                : String.format("[%s] %s%n", phase.phase().getLabel(), phase.answer());
+    }
+}
@@ -0,0 +1,30 @@
+package com.github.jonnu.advent.runner;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports how long the first answer took to appear, both from JVM start (so including JVM boot and class loading
+ * before {@code main}) and from entering {@code main} (so including option parsing, wiring and the solve itself).
+ */
+final class StartupClock {
+
+    private static final AtomicBoolean REPORTED = new AtomicBoolean();
+    private static long main;
+
+    private StartupClock() {
+    }
+
+    static void mark() {
+        main = System.nanoTime();
+    }
+
+    static void firstAnswer(final RunnerOptions.Wiring wiring) {
+        long sinceMain = System.nanoTime() - main;
+        long sinceStart = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        if (REPORTED.compareAndSet(false, true)) {
+            System.out.printf("Startup to first answer: %d ms from JVM start, %.3f ms from main (%s wiring)%n",
+                    sinceStart, sinceMain / 1_000_000d, wiring.name().toLowerCase());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Compares startup with and without the class data sharing archive: forks the selected puzzle {@code --iterations}
+ * times each way, alternating between the two so that neither gets the quieter machine, and times each child from
+ * launch to its first answer.
+ */
+@AllArgsConstructor
+public class StartupRunner {
+
+    private static final String HEADER = String.format("%-28s %12s %12s %12s %12s",
+            "Archive", "Min (ms)", "Median (ms)", "p90 (ms)", "Max (ms)");
+    private static final String ROW = "%-28s %12.3f %12.3f %12.3f %12.3f%n";
+
+    private final ForkRunner forkRunner;
+    private final RunnerOptions options;
+
+    public List<LatencySummary> run(final List<PuzzleReference> references) {
+        Path archive = ClassDataSharing.archive(options)
+                .orElseThrow(() -> new IllegalStateException("No class data sharing archive at " + options.getCdsArchive() + "; train one with --mode=cds-train"));
+
+        List<LatencySummary> summaries = new ArrayList<>();
+        for (PuzzleReference reference : references) {
+            List<Duration> without = new ArrayList<>(options.getIterations());
+            List<Duration> with = new ArrayList<>(options.getIterations());
+            for (int i = 0; i < options.getIterations(); i++) {
+                without.add(measure(reference, null));
+                with.add(measure(reference, archive));
+            }
+
+            LatencySummary shared = LatencySummary.of(with.get(0), with);
+            LatencySummary unshared = LatencySummary.of(without.get(0), without);
+            System.out.printf("%nStartup to first answer of %s, %s wiring, %d runs each%n",
+                    reference, options.getWiring().name().toLowerCase(), options.getIterations());
+            print(archive, unshared, shared, System.out);
+            summaries.add(unshared);
+            summaries.add(shared);
+        }
+        return summaries;
+    }
+
+    private Duration measure(final PuzzleReference reference, final Path archive) {
+        ForkedResult forked = forkRunner.fork(reference, options.getCollector(), options.getHeap(), archive);
+        if (!forked.result().isSolved()) {
+            throw new IllegalStateException("Puzzle " + reference + " did not solve: " + forked.result().detail());
+        }
+        return forked.reported();
+    }
+
+    private static void print(final Path archive, final LatencySummary unshared, final LatencySummary shared, final PrintStream out) {
+        out.println(HEADER);
+        out.println("-".repeat(HEADER.length()));
+        row("none", unshared, out);
+        row(archive.toString(), shared, out);
+        out.printf("Median speedup: %.2fx%n", TimingTable.millis(unshared.median()) / Math.max(TimingTable.millis(shared.median()), 0.001d));
+    }
+
+    private static void row(final String archive, final LatencySummary summary, final PrintStream out) {
+        out.printf(ROW,
+                archive,
+                TimingTable.millis(summary.min()),
+                TimingTable.millis(summary.median()),
+                TimingTable.millis(summary.p90()),
+                TimingTable.millis(summary.max()));
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Checks that puzzles are re-entrant: each one is solved once on its own for reference answers, then
+ * {@code --iterations} more times by fresh instances running concurrently on {@code --threads} workers. A puzzle whose
+ * answers ever differ from the reference, or which fails only under concurrency, is reported as unstable.
+ */
+@AllArgsConstructor
+public class StressRunner {
+
+    private static final String HEADER = String.format("%-6s %4s %6s %10s %8s  %s", "Year", "Day", "Runs", "Mismatched", "Failed", "Result");
+    private static final String ROW = "%-6d %4d %6d %10d %8d  %s%n";
+
+    private final PuzzleExecutor executor;
+    private final RunnerOptions options;
+
+    public record Outcome(PuzzleReference reference, int runs, int mismatched, int failed) {
+
+        public boolean isStable() {
+            return mismatched == 0 && failed == 0;
+        }
+    }
+
+    public List<Outcome> run(final List<PuzzleReference> references) {
+
+        // a single worker would never overlap two solves, so fall back to one per core.
+        int threads = options.getThreads() > 1 ? options.getThreads() : Runtime.getRuntime().availableProcessors();
+        System.out.printf("Solving each puzzle %d times on %d threads%n", options.getIterations(), threads);
+
+        List<Outcome> outcomes = new ArrayList<>();
+        for (PuzzleReference reference : references) {
+            outcomes.add(stress(reference, threads));
+        }
+
+        System.out.println();
+        print(outcomes, System.out);
+
+        List<PuzzleReference> unstable = outcomes.stream()
+                .filter(outcome -> !outcome.isStable())
+                .map(Outcome::reference)
+                .toList();
+        if (!unstable.isEmpty()) {
+            throw new IllegalStateException("Unstable puzzles: " + unstable);
+        }
+        return outcomes;
+    }
+
+    @SneakyThrows
+    private Outcome stress(final PuzzleReference reference, final int threads) {
+        PuzzleResult baseline = executor.execute(reference);
+        if (!baseline.isSolved()) {
+            throw new IllegalStateException("Puzzle " + reference + " did not solve: " + baseline.detail());
+        }
+        List<String> expected = answers(baseline);
+
+        List<Callable<PuzzleResult>> tasks = new ArrayList<>();
+        for (int i = 0; i < options.getIterations(); i++) {
+            tasks.add(() -> executor.execute(reference));
+        }
+
+        int mismatched = 0;
+        int failed = 0;
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            for (Future<PuzzleResult> future : pool.invokeAll(tasks)) {
+                PuzzleResult result = future.get();
+                if (!result.isSolved()) {
+                    failed++;
+                } else if (!Objects.equals(expected, answers(result))) {
+                    mismatched++;
+                }
+            }
+        }
+        return new Outcome(reference, tasks.size(), mismatched, failed);
+    }
+
+    private static List<String> answers(final PuzzleResult result) {
+        return result.phases()
+                .stream()
+                .filter(phase -> phase.answer() != null)
+                .map(phase -> String.valueOf(phase.answer()))
+                .toList();
+    }
+
+    private static void print(final List<Outcome> outcomes, final PrintStream out) {
+        out.println(HEADER);
+        out.println("-".repeat(HEADER.length()));
+        outcomes.forEach(outcome -> out.printf(ROW,
+                outcome.reference().year(),
+                outcome.reference().day(),
+                outcome.runs(),
+                outcome.mismatched(),
+                outcome.failed(),
+                outcome.isStable() ? "stable" : "UNSTABLE"));
+    }
+}
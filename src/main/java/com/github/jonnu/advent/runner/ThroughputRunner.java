@@ -0,0 +1,90 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import com.github.jonnu.advent.common.Compression;
+import com.google.inject.Injector;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * Solves one puzzle against every file in a corpus directory, on {@code --threads} workers. Each input is solved by a
+ * fresh puzzle instance in an {@link InputScope} of its own, so no state is shared between inputs. Reports aggregate
+ * throughput and the distribution of per-input latency; reading the file (and inflating it, if compressed) is not part
+ * of an input's latency.
+ */
+@AllArgsConstructor
+public class ThroughputRunner {
+
+    private final RunnerOptions options;
+
+    private record Solved(Path input, long bytes, PuzzleResult result) {
+    }
+
+    @SneakyThrows
+    public LatencySummary run(final PuzzleReference reference) {
+
+        Path corpus = options.getCorpus();
+        if (corpus == null || !Files.isDirectory(corpus)) {
+            throw new IllegalArgumentException("Unknown corpus directory: " + corpus);
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(corpus)) {
+            files = listing.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        Injector base = InputScope.base();
+        List<Callable<Solved>> tasks = files.stream()
+                .<Callable<Solved>>map(file -> () -> {
+                    byte[] input;
+                    try (InputStream stream = Compression.open(file)) {
+                        input = stream.readAllBytes();
+                    }
+                    PuzzleResult result = new PuzzleExecutor(new InjectorPuzzleFactory(InputScope.of(base, reference, input)), options, AnswerCache.disabled())
+                            .execute(reference);
+                    return new Solved(file, input.length, result);
+                })
+                .toList();
+
+        System.out.printf("Solving %s against %d inputs from %s on %d threads%n", reference, files.size(), corpus, options.getThreads());
+        List<Solved> solved = new ArrayList<>(files.size());
+        long start = System.nanoTime();
+        try (ExecutorService pool = Executors.newFixedThreadPool(options.getThreads())) {
+            for (Future<Solved> future : pool.invokeAll(tasks)) {
+                solved.add(future.get());
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        solved.stream()
+                .filter(input -> !input.result().isSolved())
+                .forEach(input -> System.out.printf("%s: %s %s%n", input.input().getFileName(), input.result().status(), input.result().detail()));
+
+        double seconds = elapsed.toNanos() / 1e9;
+        long bytes = solved.stream().mapToLong(Solved::bytes).sum();
+        List<Duration> latencies = solved.stream().map(input -> input.result().wall()).toList();
+        LatencySummary summary = LatencySummary.of(latencies.isEmpty() ? Duration.ZERO : latencies.get(0), latencies);
+
+        System.out.printf("%n%d inputs (%s, %d failed) in %.3f ms%n",
+                solved.size(), TimingTable.bytes(bytes), solved.stream().filter(input -> !input.result().isSolved()).count(), TimingTable.millis(elapsed));
+        System.out.printf("Throughput: %.1f inputs/s, %.2f MB/s%n", solved.size() / seconds, bytes / seconds / (1_024 * 1_024));
+        System.out.printf("Latency (ms): min %.3f, median %.3f, p90 %.3f, p99 %.3f, max %.3f%n",
+                TimingTable.millis(summary.min()),
+                TimingTable.millis(summary.median()),
+                TimingTable.millis(summary.p90()),
+                TimingTable.millis(summary.p99()),
+                TimingTable.millis(summary.max()));
+        return summary;
+    }
+}
@@ -0,0 +1,107 @@
+package com.github.jonnu.advent.runner;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Renders puzzle results as a fixed-width table, ordered by the requested column.
+ * Phase columns show the wall time of the phase and, in brackets, the bytes allocated by it.
+ */
+@AllArgsConstructor
+public class TimingTable {
+
+    private static final String HEADER = String.format("%-6s %4s %20s %20s %20s %12s %12s %10s %5s %9s %10s  %s",
+            "Year", "Day", "Parse (ms)", "Part 1 (ms)", "Part 2 (ms)", "Wall (ms)", "CPU (ms)", "Allocated", "GCs", "GC (ms)", "Peak heap", "Status");
+    private static final String ROW = "%-6d %4d %20s %20s %20s %12.3f %12.3f %10s %5d %9d %10s  %s%n";
+    private static final int TOTAL_INDENT = 74;
+
+    private final Sort sort;
+
+    public enum Sort {
+
+        YEAR,
+        DAY,
+        WALL,
+        CPU,
+        ALLOCATED,
+        HEAP;
+
+        Comparator<PuzzleResult> comparator() {
+            return switch (this) {
+                case WALL -> Comparator.comparing(PuzzleResult::wall).reversed();
+                case CPU -> Comparator.comparing(PuzzleResult::cpu).reversed();
+                case ALLOCATED -> Comparator.comparingLong(PuzzleResult::allocatedBytes).reversed();
+                case HEAP -> Comparator.comparingLong(PuzzleResult::peakHeapBytes).reversed();
+                case YEAR -> Comparator.comparing(PuzzleResult::reference);
+                case DAY -> Comparator.comparingInt((PuzzleResult result) -> result.reference().day())
+                        .thenComparing(PuzzleResult::reference);
+            };
+        }
+
+        public static Sort fromString(final String string) {
+            return valueOf(string.toUpperCase());
+        }
+    }
+
+    public void print(final List<PuzzleResult> results, final PrintStream out) {
+
+        out.println(HEADER);
+        out.println("-".repeat(HEADER.length()));
+        results.stream()
+                .sorted(sort.comparator())
+                .forEach(result -> out.printf(ROW,
+                        result.reference().year(),
+                        result.reference().day(),
+                        phase(result, Phase.PARSE),
+                        phase(result, Phase.PART_ONE),
+                        phase(result, Phase.PART_TWO),
+                        millis(result.wall()),
+                        millis(result.cpu()),
+                        bytes(result.allocatedBytes()),
+                        result.gcCount(),
+                        result.gcPause().toMillis(),
+                        bytes(result.peakHeapBytes()),
+                        result.isSolved() ? result.status() : result.status() + " " + result.detail()));
+
+        out.println("-".repeat(HEADER.length()));
+        out.printf("%-" + TOTAL_INDENT + "s %12.3f %12.3f %10s %5d %9d %10s  %d/%d solved%n",
+                "Total",
+                millis(results.stream().map(PuzzleResult::wall).reduce(Duration.ZERO, Duration::plus)),
+                millis(results.stream().map(PuzzleResult::cpu).reduce(Duration.ZERO, Duration::plus)),
+                bytes(results.stream().mapToLong(PuzzleResult::allocatedBytes).sum()),
+                results.stream().mapToLong(PuzzleResult::gcCount).sum(),
+                results.stream().map(PuzzleResult::gcPause).reduce(Duration.ZERO, Duration::plus).toMillis(),
+                bytes(results.stream().mapToLong(PuzzleResult::peakHeapBytes).max().orElse(0)),
+                results.stream().filter(PuzzleResult::isSolved).count(),
+                results.size());
+
+        List<PuzzleResult> pooled = results.stream().filter(result -> result.pool().isUsed()).toList();
+        if (!pooled.isEmpty()) {
+            out.printf("%nFork/join pools:%n");
+            pooled.forEach(result -> out.printf("%-9s parallelism %3d, steals %8d, peak queued %6d%n",
+                    result.reference(), result.pool().parallelism(), result.pool().steals(), result.pool().peakQueued()));
+        }
+    }
+
+    private static String phase(final PuzzleResult result, final Phase phase) {
+        return result.phase(phase)
+                .map(timing -> String.format("%.3f (%s)", millis(timing.wall()), bytes(timing.allocatedBytes())))
+                .orElse("-");
+    }
+
+    public static double millis(final Duration duration) {
+        return duration.toNanos() / 1_000_000d;
+    }
+
+    public static String bytes(final long bytes) {
+        if (bytes < 1_024) {
+            return bytes + "B";
+        }
+        int exponent = (int) (Math.log(bytes) / Math.log(1_024));
+        return String.format("%.1f%c", bytes / Math.pow(1_024, exponent), "KMGTPE".charAt(exponent - 1));
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.jonnu.advent.runner.jfr;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+import com.github.jonnu.advent.runner.TimingTable;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+
+/**
+ * A Java Flight Recorder session around a runner invocation, written to a single {@code .jfr} file.
+ * Closing the session stops the recording and prints the hottest methods and allocation sites found in it.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FlightRecording implements AutoCloseable {
+
+    private static final String CONFIGURATION = "profile";
+    private static final String EXECUTION_SAMPLE = "jdk.ExecutionSample";
+    private static final String ALLOCATION_SAMPLE = "jdk.ObjectAllocationSample";
+    private static final int SUMMARY_SIZE = 10;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Recording recording;
+    private final Path destination;
+
+    @SneakyThrows
+    public static FlightRecording start(final Path directory) {
+        Files.createDirectories(directory);
+        Path destination = directory.resolve("advent-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+
+        Recording recording = new Recording(Configuration.getConfiguration(CONFIGURATION));
+        recording.enable(PuzzleEvent.class);
+        recording.enable(PhaseEvent.class);
+        recording.setDestination(destination);
+        recording.start();
+        return new FlightRecording(recording, destination);
+    }
+
+    @Override
+    public void close() throws IOException {
+        recording.stop();
+        recording.close();
+        summarise(destination, System.out);
+    }
+
+    private static void summarise(final Path file, final PrintStream out) throws IOException {
+        Map<String, Long> samples = new HashMap<>();
+        Map<String, Long> allocations = new HashMap<>();
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            String type = event.getEventType().getName();
+            if (EXECUTION_SAMPLE.equals(type)) {
+                samples.merge(topFrame(event.getStackTrace()), 1L, Long::sum);
+            } else if (ALLOCATION_SAMPLE.equals(type)) {
+                String site = event.getClass("objectClass").getName() + " @ " + topFrame(event.getStackTrace());
+                allocations.merge(site, event.getLong("weight"), Long::sum);
+            }
+        }
+
+        out.printf("%nFlight recording written to %s%n", file);
+        print("Hot methods (execution samples)", samples, String::valueOf, out);
+        print("Allocation sites (sampled bytes)", allocations, TimingTable::bytes, out);
+    }
+
+    private static void print(final String title, final Map<String, Long> totals, final LongFunction<String> format, final PrintStream out) {
+        out.printf("%n%s:%n", title);
+        List<Map.Entry<String, Long>> top = totals.entrySet()
+                .stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(SUMMARY_SIZE)
+                .toList();
+        if (top.isEmpty()) {
+            out.println("  (none recorded)");
+        }
+        top.forEach(entry -> out.printf("  %10s  %s%n", format.apply(entry.getValue()), entry.getKey()));
+    }
+
+    private static String topFrame(final RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<unknown>";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
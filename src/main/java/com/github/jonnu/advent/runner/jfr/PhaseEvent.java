@@ -0,0 +1,26 @@
+package com.github.jonnu.advent.runner.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Spans a single phase (parse, part one, part two or a legacy solve) of a puzzle execution.
+ */
+@Name("advent.Phase")
+@Label("Puzzle Phase")
+@Category("Advent of Code")
+@Description("A parse, part or solve phase of a puzzle")
+public class PhaseEvent extends Event {
+
+    @Label("Year")
+    public int year;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Phase")
+    public String phase;
+}
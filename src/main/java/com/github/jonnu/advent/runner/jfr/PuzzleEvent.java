@@ -0,0 +1,26 @@
+package com.github.jonnu.advent.runner.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Spans a whole puzzle execution, from instantiation to its final phase.
+ */
+@Name("advent.Puzzle")
+@Label("Puzzle")
+@Category("Advent of Code")
+@Description("Execution of a single puzzle")
+public class PuzzleEvent extends Event {
+
+    @Label("Year")
+    public int year;
+
+    @Label("Day")
+    public int day;
+
+    @Label("Status")
+    public String status;
+}
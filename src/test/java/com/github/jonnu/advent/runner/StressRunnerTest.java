@@ -0,0 +1,53 @@
+package com.github.jonnu.advent.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import com.github.jonnu.advent.common.BufferedResourceReader;
+import com.github.jonnu.advent.common.BufferedTrace;
+import com.github.jonnu.advent.common.CachingResourceReader;
+import com.github.jonnu.advent.common.ResourceReader;
+import com.github.jonnu.advent.inject.AdventModule;
+import com.google.inject.Guice;
+import org.junit.jupiter.api.Test;
+
+class StressRunnerTest {
+
+    // quick to solve: a legacy puzzle, whose answer is captured from System.out, and phased puzzles with independent parts.
+    private static final List<String> PUZZLES = List.of("2021/1", "2023/11", "2025/2", "2025/3");
+
+    @Test
+    void answersAreStableWhenSolvedConcurrently() {
+        assertStable(RunnerOptions.builder()
+                .mode(RunnerOptions.Mode.STRESS)
+                .threads(4)
+                .iterations(16)
+                .build());
+    }
+
+    @Test
+    void answersAreStableWithConcurrentPartsInPoolsOfTheirOwn() {
+        assertStable(RunnerOptions.builder()
+                .mode(RunnerOptions.Mode.STRESS)
+                .threads(4)
+                .iterations(16)
+                .concurrentParts(true)
+                .parallelism(2)
+                .build());
+    }
+
+    private static void assertStable(final RunnerOptions options) {
+        ResourceReader resourceReader = new CachingResourceReader(new BufferedResourceReader(), options.inputCacheBytes());
+        PuzzleFactory puzzles = new InjectorPuzzleFactory(Guice.createInjector(new AdventModule(resourceReader, new BufferedTrace())));
+        PuzzleExecutor executor = new PuzzleExecutor(puzzles, options, AnswerCache.disabled());
+
+        List<PuzzleReference> references = new RegistryPuzzleLocator().locate(PUZZLES);
+        assertEquals(PUZZLES.size(), references.size());
+
+        for (StressRunner.Outcome outcome : new StressRunner(executor, options).run(references)) {
+            assertTrue(outcome.isStable(), () -> outcome.reference() + " is unstable: " + outcome);
+        }
+    }
+}